@@ -0,0 +1,66 @@
+package com.Sasmit;
+
+import java.util.*;
+
+/**
+ * Union-find over dense ids 0..n-1 in two int arrays: path halving on find, union by size.
+ * Both operations are effectively constant time (inverse Ackermann), and nothing is allocated
+ * after construction. Use IntIdMap in front of it when the ids are sparse.
+ * Not thread-safe.
+ */
+public class ArrayUnionFind {
+    private final int[] parent;
+    private final int[] size;
+    private int count;
+
+    public ArrayUnionFind(int n) {
+        parent = new int[n];
+        size = new int[n];
+        for (int i = 0; i < n; i++) {
+            parent[i] = i;
+            size[i] = 1;
+        }
+        count = n;
+    }
+
+    public int find(int v) {
+        while (parent[v] != v) {
+            parent[v] = parent[parent[v]]; // path halving
+            v = parent[v];
+        }
+        return v;
+    }
+
+    /** Merge the sets of a and b; returns false if they were already together. */
+    public boolean union(int a, int b) {
+        int ra = find(a);
+        int rb = find(b);
+        if (ra == rb) return false;
+        if (size[ra] < size[rb]) {
+            int tmp = ra;
+            ra = rb;
+            rb = tmp;
+        }
+        parent[rb] = ra;
+        size[ra] += size[rb];
+        count--;
+        return true;
+    }
+
+    public boolean connected(int a, int b) {
+        return find(a) == find(b);
+    }
+
+    /** Size of the set containing v. */
+    public int setSize(int v) {
+        return size[find(v)];
+    }
+
+    public int numClusters() {
+        return count;
+    }
+
+    public int elementCount() {
+        return parent.length;
+    }
+}
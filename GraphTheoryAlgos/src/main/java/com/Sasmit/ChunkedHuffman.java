@@ -0,0 +1,363 @@
+package com.Sasmit;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+/**
+ * Chunk-parallel Huffman compression with one length-limited canonical code for the whole input.
+ * 1) Frequencies are counted per block in parallel and summed.
+ * 2) One code is built from them with package-merge, capped at maxCodeLength bits.
+ * 3) Every block of blockBytes input bytes is encoded on its own (byte-aligned, own padding),
+ *    so blocks can be encoded in parallel and decoded in parallel or one at a time.
+ *
+ * Format:
+ *   long length | int blockBytes | int blockCount | 256 code lengths | block 0 | block 1 | ...
+ *   | long offset[blockCount + 1]   (block i = payload bytes offset[i]..offset[i+1])
+ * The index sits at the end, because block sizes are only known once they are encoded;
+ * blockCount in the header says where it starts.
+ */
+public class ChunkedHuffman {
+    public static final int DEFAULT_BLOCK_BYTES = 1 << 20;
+    private static final int HEADER_BYTES = 8 + 4 + 4 + 256;
+
+    private final int threads;
+    private final int blockBytes;
+    private final int maxCodeLength;
+
+    public ChunkedHuffman(int threads, int blockBytes, int maxCodeLength) {
+        if (threads < 1) throw new IllegalArgumentException("threads must be >= 1");
+        if (blockBytes < 1) throw new IllegalArgumentException("blockBytes must be >= 1");
+        // 8 bits is the least that fits all 256 byte values
+        if (maxCodeLength < 8 || maxCodeLength > HuffmanCodec.MAX_CODE_LENGTH) {
+            throw new IllegalArgumentException("maxCodeLength must be in 8.." + HuffmanCodec.MAX_CODE_LENGTH);
+        }
+        this.threads = threads;
+        this.blockBytes = blockBytes;
+        this.maxCodeLength = maxCodeLength;
+    }
+
+    public ChunkedHuffman(int threads) {
+        this(threads, DEFAULT_BLOCK_BYTES, HuffmanCodec.MAX_CODE_LENGTH);
+    }
+
+    // =============================
+    // In-memory
+    // =============================
+
+    /** Byte frequencies of data's remaining bytes, counted block by block in parallel. */
+    public long[] countFrequencies(ByteBuffer data) {
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            return countFrequencies(pool, data);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private long[] countFrequencies(ForkJoinPool pool, ByteBuffer data) {
+        int base = data.position();
+        int blocks = blockCount(data.remaining());
+        long[][] perBlock = new long[blocks][];
+        parallel(pool, blocks, b -> {
+            long[] f = new long[256];
+            int from = base + b * blockBytes;
+            int to = (int) Math.min(data.limit(), (long) from + blockBytes);
+            for (int i = from; i < to; i++) f[data.get(i) & 0xFF]++;
+            perBlock[b] = f;
+        });
+        return sum(perBlock);
+    }
+
+    public ByteBuffer compress(ByteBuffer data) {
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            return compress(pool, data);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private ByteBuffer compress(ForkJoinPool pool, ByteBuffer data) {
+        long[] frequencies = countFrequencies(pool, data);
+        HuffmanCodec codec = HuffmanCodec.fromFrequencies(frequencies, maxCodeLength);
+        int length = data.remaining();
+        int blocks = blockCount(length);
+
+        ByteBuffer[] encoded = new ByteBuffer[blocks];
+        int base = data.position();
+        parallel(pool, blocks, b -> encoded[b] = encodeBlock(codec,
+                range(data, base + b * blockBytes, (int) Math.min(blockBytes, length - (long) b * blockBytes))));
+
+        long payload = 0;
+        for (ByteBuffer block : encoded) payload += block.remaining();
+        long total = HEADER_BYTES + payload + 8L * (blocks + 1);
+        if (total > Integer.MAX_VALUE - 8) throw new IllegalArgumentException("Too large for one buffer, use the file API");
+
+        ByteBuffer out = ByteBuffer.allocate((int) total);
+        writeHeader(out, length, blocks, codec);
+        long[] offsets = new long[blocks + 1];
+        for (int b = 0; b < blocks; b++) {
+            offsets[b + 1] = offsets[b] + encoded[b].remaining();
+            out.put(encoded[b]);
+        }
+        for (long offset : offsets) out.putLong(offset);
+        out.flip();
+        return out;
+    }
+
+    /** Decode every block in parallel into one buffer. */
+    public ByteBuffer decompress(ByteBuffer compressed) {
+        Reader reader = new Reader(compressed);
+        if (reader.length() > Integer.MAX_VALUE - 8) throw new IllegalArgumentException("Too large for one buffer, use the file API");
+        ByteBuffer out = ByteBuffer.allocate((int) reader.length());
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            parallel(pool, reader.blockCount(), b -> reader.decodeBlock(b, range(out, b * reader.blockBytes, reader.blockLength(b))));
+        } finally {
+            pool.shutdown();
+        }
+        return out;
+    }
+
+    /**
+     * Random access into a compressed buffer: any block (or byte range) decodes on its own,
+     * using only the header and the offset index. Safe to share between threads.
+     */
+    public static class Reader {
+        private final ByteBuffer data;
+        private final long length;
+        private final int blockBytes;
+        private final int blockCount;
+        private final HuffmanCodec codec;
+        private final int payloadStart;
+        private final long[] offsets;
+
+        public Reader(ByteBuffer compressed) {
+            data = compressed.slice();
+            length = data.getLong();
+            blockBytes = data.getInt();
+            blockCount = data.getInt();
+            codec = HuffmanCodec.readCodeLengths(data);
+            payloadStart = data.position();
+
+            offsets = new long[blockCount + 1];
+            int indexStart = data.limit() - 8 * (blockCount + 1);
+            for (int b = 0; b <= blockCount; b++) offsets[b] = data.getLong(indexStart + 8 * b);
+        }
+
+        public long length() {
+            return length;
+        }
+
+        public int blockCount() {
+            return blockCount;
+        }
+
+        public int blockBytes() {
+            return blockBytes;
+        }
+
+        /** Decoded size of block b (only the last one can be short). */
+        public int blockLength(int b) {
+            return (int) Math.min(blockBytes, length - (long) b * blockBytes);
+        }
+
+        public byte[] readBlock(int b) {
+            byte[] out = new byte[blockLength(b)];
+            decodeBlock(b, ByteBuffer.wrap(out));
+            return out;
+        }
+
+        /** Bytes [position, position + count) of the original data, decoding only the blocks they touch. */
+        public byte[] read(long position, int count) {
+            if (position < 0 || count < 0 || position + count > length) throw new IndexOutOfBoundsException();
+            byte[] out = new byte[count];
+            int written = 0;
+            while (written < count) {
+                long at = position + written;
+                int b = (int) (at / blockBytes);
+                byte[] block = readBlock(b);
+                int from = (int) (at - (long) b * blockBytes);
+                int n = Math.min(count - written, block.length - from);
+                System.arraycopy(block, from, out, written, n);
+                written += n;
+            }
+            return out;
+        }
+
+        void decodeBlock(int b, ByteBuffer out) {
+            ByteBuffer in = data.duplicate();
+            in.limit((int) (payloadStart + offsets[b + 1]));
+            in.position((int) (payloadStart + offsets[b]));
+            codec.decode(in, out, blockLength(b));
+        }
+    }
+
+    // =============================
+    // Files (no size limit)
+    // =============================
+
+    /**
+     * Compress a file of any size: the input is mapped batch by batch, every batch is counted and later
+     * encoded in parallel, and encoded blocks are written in order as soon as their batch is done.
+     */
+    public void compress(Path source, Path target) throws IOException {
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try (FileChannel in = FileChannel.open(source, StandardOpenOption.READ);
+             FileChannel out = FileChannel.open(target, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                     StandardOpenOption.TRUNCATE_EXISTING)) {
+            long length = in.size();
+            long blocksLong = (length + blockBytes - 1) / blockBytes;
+            if (blocksLong > Integer.MAX_VALUE - 1) throw new IllegalArgumentException("Too many blocks, raise blockBytes");
+            int blocks = (int) blocksLong;
+            int batch = batchBlocks();
+
+            long[][] perBatch = new long[(blocks + batch - 1) / batch][];
+            for (int first = 0, i = 0; first < blocks; first += batch, i++) {
+                MappedByteBuffer window = map(in, first, batch);
+                perBatch[i] = countFrequencies(pool, window);
+            }
+            HuffmanCodec codec = HuffmanCodec.fromFrequencies(sum(perBatch), maxCodeLength);
+
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+            writeHeader(header, length, blocks, codec);
+            header.flip();
+            writeFully(out, header);
+
+            long[] offsets = new long[blocks + 1];
+            for (int first = 0; first < blocks; first += batch) {
+                MappedByteBuffer window = map(in, first, batch);
+                int count = Math.min(batch, blocks - first);
+                ByteBuffer[] encoded = new ByteBuffer[count];
+                parallel(pool, count, b -> encoded[b] = encodeBlock(codec,
+                        range(window, b * blockBytes, Math.min(blockBytes, window.limit() - b * blockBytes))));
+                for (int b = 0; b < count; b++) {
+                    offsets[first + b + 1] = offsets[first + b] + encoded[b].remaining();
+                    writeFully(out, encoded[b]);
+                }
+            }
+
+            ByteBuffer index = ByteBuffer.allocate(8 * (blocks + 1));
+            for (long offset : offsets) index.putLong(offset);
+            index.flip();
+            writeFully(out, index);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /** Decompress a file written by compress(Path, Path), a batch of blocks at a time in parallel. */
+    public void decompress(Path source, Path target) throws IOException {
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try (FileChannel in = FileChannel.open(source, StandardOpenOption.READ);
+             FileChannel out = FileChannel.open(target, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                     StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+            readFully(in, header, 0);
+            header.flip();
+            long length = header.getLong();
+            int fileBlockBytes = header.getInt();
+            int blocks = header.getInt();
+            HuffmanCodec codec = HuffmanCodec.readCodeLengths(header);
+
+            ByteBuffer index = ByteBuffer.allocate(8 * (blocks + 1));
+            readFully(in, index, in.size() - index.capacity());
+            index.flip();
+            long[] offsets = new long[blocks + 1];
+            for (int b = 0; b <= blocks; b++) offsets[b] = index.getLong();
+
+            int batch = batchBlocks();
+            for (int first = 0; first < blocks; first += batch) {
+                int count = Math.min(batch, blocks - first);
+                long from = HEADER_BYTES + offsets[first];
+                MappedByteBuffer window = in.map(FileChannel.MapMode.READ_ONLY, from, offsets[first + count] - offsets[first]);
+                int start = first;
+                ByteBuffer[] decoded = new ByteBuffer[count];
+                parallel(pool, count, b -> {
+                    int blockLength = (int) Math.min(fileBlockBytes, length - (long) (start + b) * fileBlockBytes);
+                    ByteBuffer blockIn = window.duplicate();
+                    blockIn.limit((int) (offsets[start + b + 1] - offsets[start]));
+                    blockIn.position((int) (offsets[start + b] - offsets[start]));
+                    ByteBuffer blockOut = ByteBuffer.allocate(blockLength);
+                    codec.decode(blockIn, blockOut, blockLength);
+                    blockOut.flip();
+                    decoded[b] = blockOut;
+                });
+                for (ByteBuffer block : decoded) writeFully(out, block);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    // =============================
+    // Helpers
+    // =============================
+    private int blockCount(long length) {
+        return (int) ((length + blockBytes - 1) / blockBytes);
+    }
+
+    // Blocks mapped at once by the file API: enough to keep every thread busy, always under 2 GB
+    private int batchBlocks() {
+        return (int) Math.max(1, Math.min(threads * 8L, (Integer.MAX_VALUE / 2) / blockBytes));
+    }
+
+    private MappedByteBuffer map(FileChannel in, int firstBlock, int batch) throws IOException {
+        long from = (long) firstBlock * blockBytes;
+        long size = Math.min((long) batch * blockBytes, in.size() - from);
+        return in.map(FileChannel.MapMode.READ_ONLY, from, size);
+    }
+
+    private void writeHeader(ByteBuffer out, long length, int blocks, HuffmanCodec codec) {
+        out.putLong(length);
+        out.putInt(blockBytes);
+        out.putInt(blocks);
+        codec.writeCodeLengths(out);
+    }
+
+    // View of buffer[from, from + length) with its own position and limit
+    private static ByteBuffer range(ByteBuffer buffer, int from, int length) {
+        ByteBuffer block = buffer.duplicate();
+        block.limit(from + length);
+        block.position(from);
+        return block;
+    }
+
+    private static ByteBuffer encodeBlock(HuffmanCodec codec, ByteBuffer block) {
+        ByteBuffer out = ByteBuffer.allocate((int) codec.maxEncodedBytes(block.remaining()));
+        codec.encode(block, out);
+        out.flip();
+        return out;
+    }
+
+    // One pool per public call, shared by all of its batches
+    private static void parallel(ForkJoinPool pool, int tasks, IntConsumer task) {
+        if (tasks == 0) return;
+        pool.submit(() -> IntStream.range(0, tasks).parallel().forEach(task)).join();
+    }
+
+    private static long[] sum(long[][] parts) {
+        long[] total = new long[256];
+        for (long[] part : parts) {
+            for (int s = 0; s < 256; s++) total[s] += part[s];
+        }
+        return total;
+    }
+
+    private static void writeFully(FileChannel out, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) out.write(buffer);
+    }
+
+    private static void readFully(FileChannel in, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (in.read(buffer, position + buffer.position()) < 0) throw new EOFException("Truncated Huffman file");
+        }
+    }
+}
@@ -2,59 +2,21 @@ package com.Sasmit;
 
 import java.io.*;
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.stream.IntStream;
 
 /**
  * Implements:
  * 1) Weighted k-clustering (max spacing) from cluster.txt
  * 2) Big clustering with Hamming distance <= 2 from clustering-big.txt
- * 3) UnionFind faithful to the provided Python (root + subtree)
+ * 3) The same big clustering on primitive long codes (up to 64 bits), in parallel
+ * 4) Big clustering at any Hamming threshold d, by mask enumeration or multi-index hashing
+ * Parts 1 and 2 are sequential and run on ArrayUnionFind, with IntIdMap turning the sparse node ids /
+ * codes into dense indices. Parts 3 and 4 merge from several threads into a ConcurrentUnionFind, with
+ * LongCodeIndex mapping the distinct codes to dense indices.
  */
 public class ClusteringAssignments {
 
-    // =============================
-    // Union-Find (faithful to Python version)
-    // =============================
-    static class UnionFind {
-        // node -> representative
-        final Map<Integer, Integer> root = new HashMap<>();
-        // representative -> members
-        final Map<Integer, List<Integer>> subtree = new HashMap<>();
-
-        UnionFind(Collection<Integer> nodes) {
-            for (int node : nodes) {
-                root.put(node, node);
-                subtree.put(node, new ArrayList<>(List.of(node)));
-            }
-        }
-
-        int find(int node) {
-            return root.get(node);
-        }
-
-        void union(int i, int j) {
-            int pi = find(i);
-            int pj = find(j);
-            if (pi == pj) return;
-
-            // merge smaller into larger (like your Python)
-            if (subtree.get(pj).size() > subtree.get(pi).size()) {
-                int tmp = pi;
-                pi = pj;
-                pj = tmp;
-            }
-
-            for (int node : subtree.get(pj)) {
-                root.put(node, pi);
-                subtree.get(pi).add(node);
-            }
-            subtree.remove(pj);
-        }
-
-        int numClusters() {
-            return subtree.size();
-        }
-    }
-
     // =============================
     // Part 1: Weighted k-clustering (max spacing)
     // =============================
@@ -86,25 +48,25 @@ public class ClusteringAssignments {
     }
 
     static int kClusteringWeighted(List<WeightedEdge> graph, int k) {
-        Set<Integer> nodes = new HashSet<>();
+        IntIdMap ids = new IntIdMap(graph.size());
         for (WeightedEdge e : graph) {
-            nodes.add(e.u);
-            nodes.add(e.v);
+            ids.add(e.u);
+            ids.add(e.v);
         }
-        UnionFind uf = new UnionFind(nodes);
+        ArrayUnionFind uf = new ArrayUnionFind(ids.size());
 
         graph.sort(Comparator.comparingInt(e -> e.cost));
 
         int idx = 0;
         while (uf.numClusters() > k && idx < graph.size()) {
             WeightedEdge e = graph.get(idx++);
-            uf.union(e.u, e.v);
+            uf.union(ids.indexOf(e.u), ids.indexOf(e.v));
         }
 
         // first edge that links two different clusters => max spacing
         while (idx < graph.size()) {
             WeightedEdge e = graph.get(idx++);
-            if (uf.find(e.u) != uf.find(e.v)) return e.cost;
+            if (!uf.connected(ids.indexOf(e.u), ids.indexOf(e.v))) return e.cost;
         }
         return -1; // not expected
     }
@@ -199,30 +161,191 @@ public class ClusteringAssignments {
      * for each node, union with any node at distance 1 or 2.
      */
     static int kClusteringBig(Map<Integer, List<Integer>> nodes, int bitLength) {
-        UnionFind uf = new UnionFind(nodes.keySet());
-
-        // IMPORTANT: iterate over a snapshot to avoid iterator surprises
-        List<Integer> keys = new ArrayList<>(nodes.keySet());
+        // distinct codes -> dense indices, so the probes below never box
+        IntIdMap codes = new IntIdMap(nodes.size());
+        for (int num : nodes.keySet()) codes.add(num);
+        ArrayUnionFind uf = new ArrayUnionFind(codes.size());
 
         int[] m1 = masks1(bitLength);
         int[] m2 = masks2(bitLength);
 
-        for (int num : keys) {
+        for (int i = 0; i < codes.size(); i++) {
+            int num = codes.idOf(i);
             // Hamming distance 1
             for (int mask : m1) {
-                int code = num ^ mask;
-                if (nodes.containsKey(code)) uf.union(num, code);
+                int j = codes.indexOf(num ^ mask);
+                if (j >= 0) uf.union(i, j);
             }
             // Hamming distance 2
             for (int mask : m2) {
-                int code = num ^ mask;
-                if (nodes.containsKey(code)) uf.union(num, code);
+                int j = codes.indexOf(num ^ mask);
+                if (j >= 0) uf.union(i, j);
             }
         }
 
         return uf.numClusters();
     }
 
+    // =============================
+    // Part 3: Parallel big clustering on primitive codes (up to 64 bits)
+    // =============================
+    static class BigCodes {
+        final long[] codes; // one per data line, duplicates kept
+        final int bitLength;
+
+        BigCodes(long[] codes, int bitLength) {
+            this.codes = codes;
+            this.bitLength = bitLength;
+        }
+    }
+
+    /**
+     * Reads the clustering-big format like readBig, but straight into a long[] without
+     * per-line strings or boxing. Codes may be up to 64 bits wide.
+     */
+    static BigCodes readBigCodes(String filename) throws IOException {
+        long[] codes = new long[1 << 16];
+        int count = 0;
+        int bitLength = -1;
+
+        try (BufferedReader br = new BufferedReader(new FileReader(filename), 1 << 16)) {
+            String first = br.readLine(); // header, skipped like readBig
+            if (first != null) {
+                String[] parts = first.trim().split("\\s+");
+                if (parts.length >= 2 && isInt(parts[0]) && isInt(parts[1])) bitLength = Integer.parseInt(parts[1]);
+            }
+
+            String line;
+            while ((line = br.readLine()) != null) {
+                long code = 0;
+                int bits = 0;
+                for (int i = 0; i < line.length(); i++) {
+                    char c = line.charAt(i);
+                    if (c == '0' || c == '1') {
+                        code = (code << 1) | (c - '0');
+                        bits++;
+                    }
+                }
+                if (bits == 0) continue;
+                if (bits > 64) throw new IllegalArgumentException("Code wider than 64 bits: " + line);
+                if (bitLength < 0) bitLength = bits;
+
+                if (count == codes.length) codes = Arrays.copyOf(codes, count * 2);
+                codes[count++] = code;
+            }
+        }
+        if (count == 0) throw new IllegalStateException("No data lines found in " + filename);
+        return new BigCodes(Arrays.copyOf(codes, count), bitLength);
+    }
+
+    static long[] masks1Long(int bitLength) {
+        long[] m = new long[bitLength];
+        for (int i = 0; i < bitLength; i++) m[i] = 1L << i;
+        return m;
+    }
+
+    static long[] masks2Long(int bitLength) {
+        long[] m = new long[bitLength * (bitLength - 1) / 2];
+        int k = 0;
+        for (int i = 0; i < bitLength; i++) {
+            for (int j = i + 1; j < bitLength; j++) {
+                m[k++] = (1L << i) ^ (1L << j);
+            }
+        }
+        return m;
+    }
+
+    /**
+     * Same answer as kClusteringBig, for tens of millions of codes up to 64 bits wide.
+     * The codes are deduped into a LongCodeIndex, the distinct codes are split into chunks across
+     * threads, and every neighbour at distance 1 or 2 is merged into a shared ConcurrentUnionFind.
+     * Each pair is only merged from its lower index, which halves the union calls.
+     */
+    static int kClusteringBigParallel(long[] codes, int bitLength, int threads) {
+        if (bitLength < 1 || bitLength > 64) throw new IllegalArgumentException("bitLength must be in 1..64");
+        LongCodeIndex index = new LongCodeIndex(codes, codes.length);
+        int n = index.size();
+        ConcurrentUnionFind uf = new ConcurrentUnionFind(n);
+
+        long[] masks = new long[bitLength + bitLength * (bitLength - 1) / 2];
+        long[] m1 = masks1Long(bitLength);
+        long[] m2 = masks2Long(bitLength);
+        System.arraycopy(m1, 0, masks, 0, m1.length);
+        System.arraycopy(m2, 0, masks, m1.length, m2.length);
+
+        int chunks = threads * 16;
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            pool.submit(() -> IntStream.range(0, chunks).parallel().forEach(c -> {
+                int from = (int) ((long) n * c / chunks);
+                int to = (int) ((long) n * (c + 1) / chunks);
+                for (int i = from; i < to; i++) {
+                    long num = index.code(i);
+                    for (long mask : masks) {
+                        int j = index.indexOf(num ^ mask);
+                        if (j > i) uf.union(i, j);
+                    }
+                }
+            })).join();
+        } finally {
+            pool.shutdown();
+        }
+        return uf.numClusters();
+    }
+
+    // =============================
+    // Part 4: Big clustering at any distance threshold
+    // =============================
+
+    /**
+     * Clusters codes within Hamming distance d by probing every mask of weight 1..d around
+     * every distinct code, i.e. sum(C(bitLength, k), k <= d) probes per code. Masks are generated
+     * on the fly (Gosper's hack), since for wide codes and d > 2 there are far too many to store.
+     */
+    static int kClusteringMasks(long[] codes, int bitLength, int d, int threads) {
+        if (bitLength < 1 || bitLength > 64) throw new IllegalArgumentException("bitLength must be in 1..64");
+        LongCodeIndex index = new LongCodeIndex(codes, codes.length);
+        int n = index.size();
+        ConcurrentUnionFind uf = new ConcurrentUnionFind(n);
+
+        int chunks = threads * 16;
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            pool.submit(() -> IntStream.range(0, chunks).parallel().forEach(c -> {
+                int from = (int) ((long) n * c / chunks);
+                int to = (int) ((long) n * (c + 1) / chunks);
+                for (int i = from; i < to; i++) {
+                    long num = index.code(i);
+                    for (int k = 1; k <= Math.min(d, bitLength); k++) {
+                        long mask = k == 64 ? -1L : (1L << k) - 1;
+                        long last = mask << (bitLength - k);
+                        while (true) {
+                            int j = index.indexOf(num ^ mask);
+                            if (j > i) uf.union(i, j);
+                            if (mask == last) break;
+                            // next k-bit mask in increasing order
+                            long low = mask & -mask;
+                            long ripple = mask + low;
+                            mask = (((ripple ^ mask) >>> 2) >>> Long.numberOfTrailingZeros(low)) | ripple;
+                        }
+                    }
+                }
+            })).join();
+        } finally {
+            pool.shutdown();
+        }
+        return uf.numClusters();
+    }
+
+    /**
+     * Same answer as kClusteringMasks, via MultiIndexHamming: d+1 substring indexes, and only
+     * codes that collide on a substring are compared.
+     */
+    static int kClusteringMultiIndex(long[] codes, int bitLength, int d, int threads) {
+        LongCodeIndex index = new LongCodeIndex(codes, codes.length);
+        return new MultiIndexHamming(index, bitLength, d).cluster(threads);
+    }
+
     // =============================
     // Helpers
     // =============================
@@ -248,5 +371,10 @@ public class ClusteringAssignments {
         BigInput input = readBig("/Users/sasmitmunagala/Desktop/Sasmit_Algos/GraphTheoryAlgos/src/main/java/com/Sasmit/clustering_big.txt");
         int numClusters = kClusteringBig(input.nodes, input.bitLength);
         System.out.println("Number of clusters (Hamming <= 2) = " + numClusters);
+
+        // ---- Part 3: same clustering, primitive codes on all cores
+        BigCodes codes = readBigCodes("/Users/sasmitmunagala/Desktop/Sasmit_Algos/GraphTheoryAlgos/src/main/java/com/Sasmit/clustering_big.txt");
+        int parallelClusters = kClusteringBigParallel(codes.codes, codes.bitLength, Runtime.getRuntime().availableProcessors());
+        System.out.println("Number of clusters (Hamming <= 2, parallel) = " + parallelClusters);
     }
 }
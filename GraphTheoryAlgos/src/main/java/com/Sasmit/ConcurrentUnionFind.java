@@ -0,0 +1,90 @@
+package com.Sasmit;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Lock-free union-find over dense ids 0..n-1 that any number of threads can share
+ * (Jayanti-Tarjan style: randomized linking, CAS for every write).
+ * - find does path halving with a CAS, so a lost race only means that shortcut is skipped
+ * - union links the root that comes first in a fixed pseudo-random order under the other one
+ *   with a single CAS, retrying from fresh roots if another thread changed either of them
+ * The random order plays the role of union by rank without a second array to keep consistent,
+ * and keeps the trees O(log n) deep in expectation.
+ */
+public class ConcurrentUnionFind {
+    private final AtomicIntegerArray parent;
+    private final AtomicInteger count;
+
+    public ConcurrentUnionFind(int n) {
+        parent = new AtomicIntegerArray(n);
+        for (int i = 0; i < n; i++) parent.set(i, i);
+        count = new AtomicInteger(n);
+    }
+
+    public int find(int v) {
+        while (true) {
+            int p = parent.get(v);
+            if (p == v) return v;
+            int gp = parent.get(p);
+            if (gp != p) parent.compareAndSet(v, p, gp); // path halving, fine if it fails
+            v = gp;
+        }
+    }
+
+    /** Merge the sets of a and b; returns false if they were already together. */
+    public boolean union(int a, int b) {
+        while (true) {
+            int ra = find(a);
+            int rb = find(b);
+            if (ra == rb) return false;
+            if (before(rb, ra)) {
+                int tmp = ra;
+                ra = rb;
+                rb = tmp;
+            }
+            // only succeeds while ra is still a root
+            if (parent.compareAndSet(ra, ra, rb)) {
+                count.decrementAndGet();
+                return true;
+            }
+            a = ra;
+            b = rb;
+        }
+    }
+
+    /** Linearizable: a and b were in the same set at some instant during the call. */
+    public boolean connected(int a, int b) {
+        while (true) {
+            a = find(a);
+            b = find(b);
+            if (a == b) return true;
+            // a is still a root, so the two sets really were apart when we read it
+            if (parent.get(a) == a) return false;
+        }
+    }
+
+    /** Exact once all unions have finished; a snapshot while they are still running. */
+    public int numClusters() {
+        return count.get();
+    }
+
+    public int elementCount() {
+        return parent.length();
+    }
+
+    // Fixed pseudo-random total order on ids, used to pick which root gets linked under which
+    private static boolean before(int x, int y) {
+        int hx = mix(x);
+        int hy = mix(y);
+        return hx != hy ? hx < hy : x < y;
+    }
+
+    private static int mix(int x) {
+        x ^= x >>> 16;
+        x *= 0x85EBCA6B;
+        x ^= x >>> 13;
+        x *= 0xC2B2AE35;
+        return x ^ (x >>> 16);
+    }
+}
@@ -0,0 +1,353 @@
+package com.Sasmit;
+
+import java.io.*;
+import java.util.*;
+
+/**
+ * Immutable compressed-sparse-row graph.
+ * Vertices are the ints 0..vertexCount()-1 (ids from the input files are used directly),
+ * out-edges of v live in targets[offsets[v] .. offsets[v+1]).
+ * Weights are optional, and the reverse (in-edge) arrays are only built when asked for.
+ */
+public final class CsrGraph {
+    private final int vertexCount;
+    private final int edgeCount;
+
+    // forward edges
+    private final int[] offsets;
+    private final int[] targets;
+    private final int[] weights;   // null when unweighted
+    private final int maxWeight;    // 1 for unweighted graphs
+
+    // reverse edges (null when built without reverse)
+    private final int[] revOffsets;
+    private final int[] revSources;
+    private final int[] revWeights;
+
+    // which ids actually showed up in the input (so gaps in the id space are not counted as vertices)
+    private final boolean[] present;
+    private final int presentCount;
+
+    private CsrGraph(int vertexCount, int edgeCount, int[] offsets, int[] targets, int[] weights,
+                     int[] revOffsets, int[] revSources, int[] revWeights, boolean[] present) {
+        this.vertexCount = vertexCount;
+        this.edgeCount = edgeCount;
+        this.offsets = offsets;
+        this.targets = targets;
+        this.weights = weights;
+        this.revOffsets = revOffsets;
+        this.revSources = revSources;
+        this.revWeights = revWeights;
+        this.present = present;
+
+        int max = weights == null ? 1 : 0;
+        if (weights != null) {
+            for (int w : weights) if (w > max) max = w;
+        }
+        this.maxWeight = max;
+
+        int count = 0;
+        for (boolean p : present) if (p) count++;
+        this.presentCount = count;
+    }
+
+    /**
+     * Build a graph from parallel edge arrays (only the first edgeCount entries are used).
+     * weights may be null for an unweighted graph.
+     */
+    public static CsrGraph fromEdges(int vertexCount, int[] src, int[] dst, int[] weights,
+                                     int edgeCount, boolean withReverse) {
+        boolean[] present = new boolean[vertexCount];
+        for (int i = 0; i < edgeCount; i++) {
+            present[src[i]] = true;
+            present[dst[i]] = true;
+        }
+        return fromEdges(vertexCount, src, dst, weights, edgeCount, withReverse, present);
+    }
+
+    static CsrGraph fromEdges(int vertexCount, int[] src, int[] dst, int[] weights,
+                              int edgeCount, boolean withReverse, boolean[] present) {
+        int[] offsets = new int[vertexCount + 1];
+        int[] targets = new int[edgeCount];
+        int[] outWeights = weights == null ? null : new int[edgeCount];
+        bucket(vertexCount, src, dst, weights, edgeCount, offsets, targets, outWeights);
+
+        int[] revOffsets = null, revSources = null, revWeights = null;
+        if (withReverse) {
+            revOffsets = new int[vertexCount + 1];
+            revSources = new int[edgeCount];
+            revWeights = weights == null ? null : new int[edgeCount];
+            bucket(vertexCount, dst, src, weights, edgeCount, revOffsets, revSources, revWeights);
+        }
+        return new CsrGraph(vertexCount, edgeCount, offsets, targets, outWeights,
+                revOffsets, revSources, revWeights, present);
+    }
+
+    // Stable counting sort of the edges by their "from" endpoint
+    private static void bucket(int n, int[] from, int[] to, int[] w, int m,
+                               int[] offsets, int[] outTo, int[] outW) {
+        for (int i = 0; i < m; i++) offsets[from[i] + 1]++;
+        for (int v = 0; v < n; v++) offsets[v + 1] += offsets[v];
+
+        int[] cursor = Arrays.copyOf(offsets, n);
+        for (int i = 0; i < m; i++) {
+            int pos = cursor[from[i]]++;
+            outTo[pos] = to[i];
+            if (outW != null) outW[pos] = w[i];
+        }
+    }
+
+    /**
+     * Adapter for the old weighted representation: vertex -> list of {neighbor, weight}.
+     */
+    public static CsrGraph fromWeightedAdjacency(Map<Integer, List<int[]>> graph, boolean withReverse) {
+        Builder builder = new Builder(true);
+        for (Map.Entry<Integer, List<int[]>> entry : graph.entrySet()) {
+            builder.addVertex(entry.getKey());
+            for (int[] edge : entry.getValue()) {
+                builder.addEdge(entry.getKey(), edge[0], edge[1]);
+            }
+        }
+        return builder.build(withReverse);
+    }
+
+    /**
+     * Adapter for the old unweighted representation: vertex -> list of neighbors.
+     */
+    public static CsrGraph fromAdjacency(Map<Integer, List<Integer>> graph, boolean withReverse) {
+        Builder builder = new Builder(false);
+        for (Map.Entry<Integer, List<Integer>> entry : graph.entrySet()) {
+            builder.addVertex(entry.getKey());
+            for (int neighbor : entry.getValue()) {
+                builder.addEdge(entry.getKey(), neighbor);
+            }
+        }
+        return builder.build(withReverse);
+    }
+
+    /**
+     * Load the "vertex  neighbor,weight  neighbor,weight ..." format used by dijkstraList.
+     * Parentheses around the pairs are tolerated.
+     */
+    public static CsrGraph loadWeightedAdjacency(String inputFile, boolean withReverse) throws IOException {
+        Builder builder = new Builder(true);
+        try (BufferedReader reader = new BufferedReader(new FileReader(inputFile))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (line.isEmpty()) continue;
+                String[] parts = line.split("\\s+");
+                int vertex = Integer.parseInt(parts[0]);
+                builder.addVertex(vertex);
+
+                for (int i = 1; i < parts.length; i++) {
+                    String edgeStr = parts[i].replace("(", "").replace(")", "");
+                    int comma = edgeStr.indexOf(',');
+                    builder.addEdge(vertex,
+                            Integer.parseInt(edgeStr.substring(0, comma)),
+                            Integer.parseInt(edgeStr.substring(comma + 1)));
+                }
+            }
+        }
+        return builder.build(withReverse);
+    }
+
+    // =============================
+    // Accessors
+    // =============================
+    public int vertexCount() {
+        return vertexCount;
+    }
+
+    public int edgeCount() {
+        return edgeCount;
+    }
+
+    public boolean isWeighted() {
+        return weights != null;
+    }
+
+    /** Largest edge weight (1 for an unweighted graph, 0 for a graph without edges). */
+    public int maxWeight() {
+        return maxWeight;
+    }
+
+    public boolean hasReverse() {
+        return revOffsets != null;
+    }
+
+    /**
+     * This graph if it already has reverse edges, otherwise a copy that shares the forward
+     * arrays and adds the reverse ones.
+     */
+    public CsrGraph withReverse() {
+        if (hasReverse()) return this;
+        int[] src = new int[edgeCount];
+        for (int v = 0; v < vertexCount; v++) {
+            for (int e = offsets[v]; e < offsets[v + 1]; e++) src[e] = v;
+        }
+        int[] revOffsets = new int[vertexCount + 1];
+        int[] revSources = new int[edgeCount];
+        int[] revWeights = weights == null ? null : new int[edgeCount];
+        bucket(vertexCount, targets, src, weights, edgeCount, revOffsets, revSources, revWeights);
+        return new CsrGraph(vertexCount, edgeCount, offsets, targets, weights,
+                revOffsets, revSources, revWeights, present);
+    }
+
+    /** True if v appeared in the input (as a vertex line or an edge endpoint). */
+    public boolean isPresent(int v) {
+        return v >= 0 && v < vertexCount && present[v];
+    }
+
+    public int presentCount() {
+        return presentCount;
+    }
+
+    /** Smallest present vertex id, or -1 for an empty graph. */
+    public int firstVertex() {
+        for (int v = 0; v < vertexCount; v++) {
+            if (present[v]) return v;
+        }
+        return -1;
+    }
+
+    public int outDegree(int v) {
+        return offsets[v + 1] - offsets[v];
+    }
+
+    public int inDegree(int v) {
+        return revOffsets()[v + 1] - revOffsets[v];
+    }
+
+    /** Copy of the out-neighbors of v. Hot loops should use the package-private arrays instead. */
+    public int[] neighbors(int v) {
+        return Arrays.copyOfRange(targets, offsets[v], offsets[v + 1]);
+    }
+
+    // Raw arrays for the algorithms in this package. Callers must not modify them.
+    int[] offsets() {
+        return offsets;
+    }
+
+    int[] targets() {
+        return targets;
+    }
+
+    int[] weights() {
+        return weights;
+    }
+
+    int[] revOffsets() {
+        if (revOffsets == null) throw new IllegalStateException("Graph was built without reverse edges");
+        return revOffsets;
+    }
+
+    int[] revSources() {
+        if (revSources == null) throw new IllegalStateException("Graph was built without reverse edges");
+        return revSources;
+    }
+
+    int[] revWeights() {
+        if (revOffsets == null) throw new IllegalStateException("Graph was built without reverse edges");
+        return revWeights;
+    }
+
+    boolean[] presentMask() {
+        return present;
+    }
+
+    /**
+     * Convert back to the old weighted map representation (present vertices only).
+     */
+    public Map<Integer, List<int[]>> toWeightedAdjacency() {
+        Map<Integer, List<int[]>> graph = new HashMap<>();
+        for (int v = 0; v < vertexCount; v++) {
+            if (!present[v]) continue;
+            List<int[]> edges = new ArrayList<>(outDegree(v));
+            for (int e = offsets[v]; e < offsets[v + 1]; e++) {
+                edges.add(new int[]{targets[e], weights == null ? 1 : weights[e]});
+            }
+            graph.put(v, edges);
+        }
+        return graph;
+    }
+
+    /**
+     * Convert back to the old unweighted map representation (present vertices only).
+     */
+    public Map<Integer, List<Integer>> toAdjacency() {
+        Map<Integer, List<Integer>> graph = new HashMap<>();
+        for (int v = 0; v < vertexCount; v++) {
+            if (!present[v]) continue;
+            List<Integer> edges = new ArrayList<>(outDegree(v));
+            for (int e = offsets[v]; e < offsets[v + 1]; e++) {
+                edges.add(targets[e]);
+            }
+            graph.put(v, edges);
+        }
+        return graph;
+    }
+
+    // =============================
+    // Builder: growable primitive edge arrays, bucketed into CSR on build()
+    // =============================
+    public static final class Builder {
+        private final boolean weighted;
+        private int[] src = new int[16];
+        private int[] dst = new int[16];
+        private int[] w;
+        private int size;
+        private boolean[] present = new boolean[16];
+        private int maxVertex = -1;
+
+        public Builder(boolean weighted) {
+            this.weighted = weighted;
+            this.w = weighted ? new int[16] : null;
+        }
+
+        public Builder addVertex(int v) {
+            if (v < 0) throw new IllegalArgumentException("Negative vertex id: " + v);
+            if (v >= present.length) {
+                present = Arrays.copyOf(present, Math.max(v + 1, present.length * 2));
+            }
+            present[v] = true;
+            if (v > maxVertex) maxVertex = v;
+            return this;
+        }
+
+        public Builder addEdge(int from, int to) {
+            if (weighted) throw new IllegalStateException("Weighted builder needs an edge weight");
+            return add(from, to, 0);
+        }
+
+        public Builder addEdge(int from, int to, int weight) {
+            if (!weighted) throw new IllegalStateException("Unweighted builder does not take edge weights");
+            return add(from, to, weight);
+        }
+
+        private Builder add(int from, int to, int weight) {
+            addVertex(from);
+            addVertex(to);
+            if (size == src.length) {
+                int cap = size * 2;
+                src = Arrays.copyOf(src, cap);
+                dst = Arrays.copyOf(dst, cap);
+                if (weighted) w = Arrays.copyOf(w, cap);
+            }
+            src[size] = from;
+            dst[size] = to;
+            if (weighted) w[size] = weight;
+            size++;
+            return this;
+        }
+
+        public int edgeCount() {
+            return size;
+        }
+
+        public CsrGraph build(boolean withReverse) {
+            int n = maxVertex + 1;
+            return fromEdges(n, src, dst, w, size, withReverse, Arrays.copyOf(present, n));
+        }
+    }
+}
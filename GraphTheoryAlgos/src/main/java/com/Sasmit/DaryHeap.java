@@ -0,0 +1,129 @@
+package com.Sasmit;
+
+import java.util.*;
+
+/**
+ * Indexed d-ary min-heap: heap[] holds vertices, pos[] maps a vertex to its slot (-1 if absent).
+ */
+public class DaryHeap implements IndexedMinQueue {
+    private final int d;
+    private final int[] heap;
+    private final int[] pos;
+    private final long[] keys;
+    private int size;
+
+    public DaryHeap(int capacity, int d) {
+        if (d < 2) throw new IllegalArgumentException("d must be >= 2");
+        this.d = d;
+        this.heap = new int[capacity];
+        this.pos = new int[capacity];
+        this.keys = new long[capacity];
+        Arrays.fill(pos, -1);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public boolean contains(int vertex) {
+        return pos[vertex] >= 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long minKey() {
+        if (size == 0) throw new NoSuchElementException("Heap is empty");
+        return keys[heap[0]];
+    }
+
+    public long keyOf(int vertex) {
+        return keys[vertex];
+    }
+
+    @Override
+    public void insertOrDecrease(int vertex, long key) {
+        int i = pos[vertex];
+        if (i < 0) {
+            i = size++;
+            heap[i] = vertex;
+            pos[vertex] = i;
+        } else if (key >= keys[vertex]) {
+            return;
+        }
+        keys[vertex] = key;
+        siftUp(i);
+    }
+
+    @Override
+    public int pollMin() {
+        if (size == 0) throw new NoSuchElementException("Heap is empty");
+        int min = heap[0];
+        pos[min] = -1;
+        size--;
+        if (size > 0) {
+            int last = heap[size];
+            heap[0] = last;
+            pos[last] = 0;
+            siftDown(0);
+        }
+        return min;
+    }
+
+    @Override
+    public void clear() {
+        for (int i = 0; i < size; i++) pos[heap[i]] = -1;
+        size = 0;
+    }
+
+    @Override
+    public int capacity() {
+        return pos.length;
+    }
+
+    private void siftUp(int i) {
+        int vertex = heap[i];
+        long key = keys[vertex];
+        while (i > 0) {
+            int parent = (i - 1) / d;
+            int p = heap[parent];
+            if (keys[p] <= key) break;
+            heap[i] = p;
+            pos[p] = i;
+            i = parent;
+        }
+        heap[i] = vertex;
+        pos[vertex] = i;
+    }
+
+    private void siftDown(int i) {
+        int vertex = heap[i];
+        long key = keys[vertex];
+        while (true) {
+            int first = i * d + 1;
+            if (first >= size) break;
+            int last = Math.min(first + d, size);
+
+            int best = first;
+            long bestKey = keys[heap[first]];
+            for (int c = first + 1; c < last; c++) {
+                long k = keys[heap[c]];
+                if (k < bestKey) {
+                    best = c;
+                    bestKey = k;
+                }
+            }
+            if (bestKey >= key) break;
+
+            int child = heap[best];
+            heap[i] = child;
+            pos[child] = i;
+            i = best;
+        }
+        heap[i] = vertex;
+        pos[vertex] = i;
+    }
+}
@@ -0,0 +1,43 @@
+package com.Sasmit;
+
+import java.io.*;
+import java.util.*;
+
+/**
+ * Thread-scaling benchmark for DeltaSteppingSssp against sequential Dijkstra.
+ * Usage: DeltaSteppingBenchmark [dijkstraList file] ; without a file a random graph is generated.
+ */
+public class DeltaSteppingBenchmark {
+
+    public static void main(String[] args) throws IOException {
+        CsrGraph graph = args.length > 0
+                ? CsrGraph.loadWeightedAdjacency(args[0], false)
+                : RandomGraphs.weighted(1_000_000, 8_000_000, 1000, 42, false);
+        int source = graph.firstVertex();
+        int maxThreads = Runtime.getRuntime().availableProcessors();
+
+        System.out.println("Graph: " + graph.presentCount() + " vertices, " + graph.edgeCount() + " edges");
+
+        DijkstraDistancesWithHeap dijkstra = new DijkstraDistancesWithHeap(graph);
+        dijkstra.distances(source, QueueStrategy.D_ARY_HEAP); // warm-up
+        long start = System.nanoTime();
+        long[] expected = dijkstra.distances(source, QueueStrategy.D_ARY_HEAP);
+        double sequentialMs = (System.nanoTime() - start) / 1e6;
+        System.out.printf("Dijkstra (sequential): %.1f ms%n", sequentialMs);
+
+        for (int threads = 1; threads <= maxThreads; threads = threads < maxThreads ? Math.min(threads * 2, maxThreads) : threads + 1) {
+            try (DeltaSteppingSssp sssp = new DeltaSteppingSssp(graph, threads)) {
+                long delta = sssp.defaultDelta();
+                sssp.distances(source, delta); // warm-up
+
+                start = System.nanoTime();
+                long[] actual = sssp.distances(source, delta);
+                double ms = (System.nanoTime() - start) / 1e6;
+
+                String check = Arrays.equals(expected, actual) ? "ok" : "MISMATCH";
+                System.out.printf("delta-stepping threads=%-3d delta=%-5d %.1f ms  (x%.2f vs Dijkstra) %s%n",
+                        threads, delta, ms, sequentialMs / ms, check);
+            }
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package com.Sasmit;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.IntStream;
+
+/**
+ * Parallel single-source shortest paths by delta-stepping (Meyer & Sanders).
+ * Tentative distances live in an AtomicLongArray and are lowered with CAS, vertices are kept in
+ * buckets of width delta, and each bucket is drained in phases: light edges (w <= delta) are
+ * relaxed in parallel until the bucket stops refilling, then the heavy edges of everything the
+ * bucket settled are relaxed once. Gives the same distances as DijkstraDistancesWithHeap.
+ * Queries keep all their state local, so one instance (and its pool) can serve several threads.
+ */
+public class DeltaSteppingSssp implements AutoCloseable {
+    private static final long INF = Long.MAX_VALUE;
+
+    private final CsrGraph graph;
+    private final ForkJoinPool pool;
+    private final int chunks;
+
+    public DeltaSteppingSssp(CsrGraph graph, int threads) {
+        if (!graph.isWeighted()) throw new IllegalArgumentException("Shortest paths need a weighted graph");
+        if (threads < 1) throw new IllegalArgumentException("threads must be >= 1");
+        this.graph = graph;
+        this.pool = new ForkJoinPool(threads);
+        this.chunks = threads * 4;
+    }
+
+    /**
+     * Delta from the usual rule of thumb: max weight over average out-degree.
+     */
+    public long defaultDelta() {
+        long avgDegree = Math.max(1, graph.edgeCount() / Math.max(1, graph.presentCount()));
+        return Math.max(1, graph.maxWeight() / avgDegree);
+    }
+
+    public long[] distances(int source) {
+        return distances(source, defaultDelta());
+    }
+
+    public long[] distances(int source, long delta) {
+        if (delta < 1) throw new IllegalArgumentException("delta must be >= 1");
+        int n = graph.vertexCount();
+        AtomicLongArray dist = new AtomicLongArray(n);
+        for (int v = 0; v < n; v++) dist.set(v, INF);
+
+        // Pending distances never exceed (current bucket + 1) * delta + maxWeight,
+        // so a ring of this many buckets is enough
+        int ringSize = (int) Math.min(Integer.MAX_VALUE - 8, graph.maxWeight() / delta + 2);
+        IntList[] buckets = new IntList[ringSize];
+        for (int i = 0; i < ringSize; i++) buckets[i] = new IntList();
+
+        int[] stamp = new int[n];     // phase in which a vertex was last put in a frontier
+        int[] settledStamp = new int[n];
+        int phase = 0;
+        IntList frontier = new IntList();
+        IntList settled = new IntList();
+
+        // Per-chunk buffers of vertices whose distance a relaxation lowered; reused across phases.
+        // Allocated per call, so concurrent queries on one instance don't share them
+        int[][] updated = new int[chunks][16];
+        int[] updatedCount = new int[chunks];
+
+        dist.set(source, 0);
+        buckets[0].add(source);
+        long current = 0;
+        int pending = 1;
+
+        while (pending > 0) {
+            // next non-empty bucket
+            while (buckets[(int) (current % ringSize)].size == 0) current++;
+            IntList bucket = buckets[(int) (current % ringSize)];
+            int bucketPhase = ++phase;
+            settled.clear();
+
+            // Light-edge phases: keep draining the bucket until no light edge refills it
+            while (bucket.size > 0) {
+                phase++;
+                frontier.clear();
+                for (int i = 0; i < bucket.size; i++) {
+                    int v = bucket.data[i];
+                    // skip stale entries and duplicates
+                    if (dist.get(v) / delta != current || stamp[v] == phase) continue;
+                    stamp[v] = phase;
+                    frontier.add(v);
+                    if (settledStamp[v] != bucketPhase) {
+                        settledStamp[v] = bucketPhase;
+                        settled.add(v);
+                    }
+                }
+                pending -= bucket.size;
+                bucket.clear();
+
+                relaxAll(frontier, dist, delta, true, updated, updatedCount);
+                pending += distribute(dist, delta, buckets, ringSize, updated, updatedCount);
+            }
+
+            // Heavy edges once per settled vertex
+            relaxAll(settled, dist, delta, false, updated, updatedCount);
+            pending += distribute(dist, delta, buckets, ringSize, updated, updatedCount);
+            current++;
+        }
+
+        long[] result = new long[n];
+        for (int v = 0; v < n; v++) result[v] = dist.get(v);
+        return result;
+    }
+
+    private void relaxAll(IntList vertices, AtomicLongArray dist, long delta, boolean light,
+                          int[][] updated, int[] updatedCount) {
+        int size = vertices.size;
+        if (size == 0) return;
+        int[] items = vertices.data;
+        int used = Math.min(chunks, size);
+
+        if (used == 1) {
+            relaxChunk(0, items, 0, size, dist, delta, light, updated, updatedCount);
+            return;
+        }
+        pool.submit(() -> IntStream.range(0, used).parallel().forEach(c -> {
+            int from = (int) ((long) size * c / used);
+            int to = (int) ((long) size * (c + 1) / used);
+            relaxChunk(c, items, from, to, dist, delta, light, updated, updatedCount);
+        })).join();
+    }
+
+    private void relaxChunk(int chunk, int[] items, int from, int to,
+                            AtomicLongArray dist, long delta, boolean light,
+                            int[][] updated, int[] updatedCount) {
+        int[] offsets = graph.offsets();
+        int[] targets = graph.targets();
+        int[] weights = graph.weights();
+        int[] out = updated[chunk];
+        int count = updatedCount[chunk];
+
+        for (int i = from; i < to; i++) {
+            int u = items[i];
+            long du = dist.get(u);
+            for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                int w = weights[e];
+                if ((w <= delta) != light) continue;
+                int v = targets[e];
+                long nd = du + w;
+
+                // CAS-min
+                long cur = dist.get(v);
+                while (nd < cur) {
+                    if (dist.compareAndSet(v, cur, nd)) {
+                        if (count == out.length) out = Arrays.copyOf(out, count * 2);
+                        out[count++] = v;
+                        break;
+                    }
+                    cur = dist.get(v);
+                }
+            }
+        }
+        updated[chunk] = out;
+        updatedCount[chunk] = count;
+    }
+
+    // Move every updated vertex into the bucket of its (now lower) distance
+    private int distribute(AtomicLongArray dist, long delta, IntList[] buckets, int ringSize,
+                           int[][] updated, int[] updatedCount) {
+        int added = 0;
+        for (int c = 0; c < chunks; c++) {
+            int[] out = updated[c];
+            for (int i = 0; i < updatedCount[c]; i++) {
+                int v = out[i];
+                buckets[(int) ((dist.get(v) / delta) % ringSize)].add(v);
+            }
+            added += updatedCount[c];
+            updatedCount[c] = 0;
+        }
+        return added;
+    }
+
+    @Override
+    public void close() {
+        pool.shutdown();
+    }
+
+    // Growable int array
+    private static class IntList {
+        int[] data = new int[16];
+        int size;
+
+        void add(int v) {
+            if (size == data.length) data = Arrays.copyOf(data, size * 2);
+            data[size++] = v;
+        }
+
+        void clear() {
+            size = 0;
+        }
+    }
+}
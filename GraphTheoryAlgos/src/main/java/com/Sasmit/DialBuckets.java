@@ -0,0 +1,104 @@
+package com.Sasmit;
+
+import java.util.*;
+
+/**
+ * Dial's bucket queue for integer weights in [0, maxWeight].
+ * With monotone keys every queued key lies in [cursor, cursor + maxWeight], so a circular array
+ * of maxWeight + 1 buckets is enough. Buckets are intrusive doubly linked lists over vertex ids.
+ */
+public class DialBuckets implements IndexedMinQueue {
+    private static final int NONE = -1;
+
+    private final int[] head;
+    private final int[] next;
+    private final int[] prev;
+    private final int[] bucketOf;   // -1 when not queued
+    private final long[] keys;
+    private final int maxWeight;
+    private long cursor;
+    private int size;
+
+    public DialBuckets(int capacity, int maxWeight) {
+        if (maxWeight < 0) throw new IllegalArgumentException("Dial buckets need non-negative weights");
+        this.maxWeight = maxWeight;
+        head = new int[maxWeight + 1];
+        next = new int[capacity];
+        prev = new int[capacity];
+        bucketOf = new int[capacity];
+        keys = new long[capacity];
+        Arrays.fill(head, NONE);
+        Arrays.fill(bucketOf, NONE);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public boolean contains(int vertex) {
+        return bucketOf[vertex] != NONE;
+    }
+
+    @Override
+    public void insertOrDecrease(int vertex, long key) {
+        if (key < cursor || key > cursor + maxWeight) {
+            throw new IllegalArgumentException("Key " + key + " outside the bucket window starting at " + cursor);
+        }
+
+        if (bucketOf[vertex] != NONE) {
+            if (key >= keys[vertex]) return;
+            unlink(vertex);
+        } else {
+            size++;
+        }
+        keys[vertex] = key;
+        link(vertex, (int) (key % head.length));
+    }
+
+    @Override
+    public int pollMin() {
+        if (size == 0) throw new NoSuchElementException("Queue is empty");
+        int b = (int) (cursor % head.length);
+        while (head[b] == NONE) {
+            cursor++;
+            b = (b + 1 == head.length) ? 0 : b + 1;
+        }
+        int vertex = head[b];
+        unlink(vertex);
+        bucketOf[vertex] = NONE;
+        size--;
+        return vertex;
+    }
+
+    @Override
+    public void clear() {
+        for (int b = 0; b < head.length; b++) {
+            for (int v = head[b]; v != NONE; v = next[v]) bucketOf[v] = NONE;
+            head[b] = NONE;
+        }
+        size = 0;
+        cursor = 0;
+    }
+
+    @Override
+    public int capacity() {
+        return keys.length;
+    }
+
+    private void link(int v, int b) {
+        bucketOf[v] = b;
+        prev[v] = NONE;
+        next[v] = head[b];
+        if (head[b] != NONE) prev[head[b]] = v;
+        head[b] = v;
+    }
+
+    private void unlink(int v) {
+        int b = bucketOf[v];
+        if (prev[v] != NONE) next[prev[v]] = next[v];
+        else head[b] = next[v];
+        if (next[v] != NONE) prev[next[v]] = prev[v];
+    }
+}
@@ -4,85 +4,182 @@ import java.io.*;
 import java.util.*;
 
 public class DijkstraDistancesWithHeap {
-    private Map<Integer, List<int[]>> graph;
+    private volatile CsrGraph graph;
+    private volatile long version;           // bumped every time the graph is replaced
+    private PointToPointSearch pointToPoint; // created on first point-to-point query
 
     public DijkstraDistancesWithHeap(String inputFile) throws IOException {
-        this.graph = new HashMap<>();
-
-        try (BufferedReader reader = new BufferedReader(new FileReader(inputFile))) {
-            String line;
-            while ((line = reader.readLine()) != null) {
-                String[] parts = line.trim().split("\\s+");
-                int vertex = Integer.parseInt(parts[0]);
-                List<int[]> edges = new ArrayList<>();
-
-                for (int i = 1; i < parts.length; i++) {
-                    String edgeStr = parts[i].replace("(", "").replace(")", "");
-                    String[] edgeParts = edgeStr.split(",");
-                    edges.add(new int[]{
-                            Integer.parseInt(edgeParts[0]),
-                            Integer.parseInt(edgeParts[1])
-                    });
-                }
+        this(CsrGraph.loadWeightedAdjacency(inputFile, false));
+    }
 
-                this.graph.put(vertex, edges);
-            }
-        }
+    // Adapter for callers that still build the old map representation
+    public DijkstraDistancesWithHeap(Map<Integer, List<int[]>> graph) {
+        this(CsrGraph.fromWeightedAdjacency(graph, false));
+    }
+
+    public DijkstraDistancesWithHeap(CsrGraph graph) {
+        if (!graph.isWeighted()) throw new IllegalArgumentException("Dijkstra needs a weighted graph");
+        this.graph = graph;
+    }
+
+    public CsrGraph getGraph() {
+        return graph;
+    }
+
+    /**
+     * Swap in a modified graph. Anything derived from the old one (e.g. a ShortestPathCache)
+     * sees the new version number and drops its results.
+     */
+    public synchronized void setGraph(CsrGraph graph) {
+        if (!graph.isWeighted()) throw new IllegalArgumentException("Dijkstra needs a weighted graph");
+        this.graph = graph;
+        this.pointToPoint = null;
+        this.version++;
+    }
+
+    /**
+     * Apply a batch of edge insertions / weight decreases to the graph (bumps the version).
+     */
+    public synchronized void applyUpdates(List<IncrementalShortestPaths.EdgeUpdate> updates) {
+        setGraph(IncrementalShortestPaths.applyUpdates(graph, updates));
+    }
+
+    /**
+     * Bring a tree computed before applyUpdates(updates) up to date by re-relaxing only the
+     * vertices whose distance improves. Much cheaper than shortestPathTree(source) for small batches.
+     * Returns a new tree; tree is left untouched, so cached trees can be passed in.
+     */
+    public ShortestPathTree repair(ShortestPathTree tree, List<IncrementalShortestPaths.EdgeUpdate> updates) {
+        return IncrementalShortestPaths.repair(graph, tree, updates);
+    }
+
+    public long getVersion() {
+        return version;
     }
 
     public Map<Integer, Integer> dijkstra(int source) {
-        PriorityQueue<int[]> heap = new PriorityQueue<>((a, b) -> Integer.compare(a[1], b[1]));
+        CsrGraph graph = this.graph;
+        long[] dist = new long[graph.vertexCount()];
+        run(graph, source, QueueStrategy.D_ARY_HEAP.create(graph), dist, null);
+
         Map<Integer, Integer> distances = new HashMap<>();
-        Set<Integer> processed = new HashSet<>();
+        for (int vertex = 0; vertex < dist.length; vertex++) {
+            if (graph.isPresent(vertex)) {
+                distances.put(vertex, dist[vertex] == Long.MAX_VALUE ? Integer.MAX_VALUE : (int) dist[vertex]);
+            }
+        }
+        return distances;
+    }
 
-        // Initialize
-        for (int vertex : graph.keySet()) {
-            distances.put(vertex, Integer.MAX_VALUE);
+    /**
+     * Same as dijkstra(source) but indexed by vertex id; unreachable vertices stay Integer.MAX_VALUE.
+     */
+    public int[] dijkstraDistances(int source) {
+        long[] dist = distances(source, QueueStrategy.D_ARY_HEAP);
+        int[] distances = new int[dist.length];
+        for (int v = 0; v < dist.length; v++) {
+            distances[v] = dist[v] == Long.MAX_VALUE ? Integer.MAX_VALUE : (int) dist[v];
         }
-        distances.put(source, 0);
-        heap.offer(new int[]{source, 0});
+        return distances;
+    }
+
+    /**
+     * Distances from source using the given queue strategy; unreachable vertices stay Long.MAX_VALUE.
+     */
+    public long[] distances(int source, QueueStrategy strategy) {
+        CsrGraph graph = this.graph;
+        long[] dist = new long[graph.vertexCount()];
+        run(graph, source, strategy.create(graph), dist, null);
+        return dist;
+    }
 
-        while (!heap.isEmpty()) {
-            int[] current = heap.poll();
-            int vertex = current[0];
-            int dist = current[1];
+    /**
+     * Distances plus predecessors from source, as a compact ShortestPathTree.
+     */
+    public ShortestPathTree shortestPathTree(int source) {
+        CsrGraph graph = this.graph;
+        long[] dist = new long[graph.vertexCount()];
+        int[] pred = new int[graph.vertexCount()];
+        run(graph, source, QueueStrategy.D_ARY_HEAP.create(graph), dist, pred);
+        return new ShortestPathTree(source, dist, pred);
+    }
 
-            if (processed.contains(vertex)) continue;
-            if (dist > distances.get(vertex)) continue;
+    /**
+     * Distances from source to just the given targets; the search stops once they are all settled.
+     */
+    public synchronized long[] distancesTo(int source, int... targets) {
+        return pointToPoint(false).distancesTo(source, targets);
+    }
 
-            processed.add(vertex);
+    /** source -> target distance (Long.MAX_VALUE if unreachable), searching from both ends at once. */
+    public synchronized long bidirectionalDistance(int source, int target) {
+        return pointToPoint(true).bidirectionalDistance(source, target);
+    }
 
-            for (int[] edge : graph.get(vertex)) {
-                int neighbor = edge[0];
-                int weight = edge[1];
-                int newDist = dist + weight;
+    /** source -> target distance with A*; heuristic must never overestimate. */
+    public synchronized long aStarDistance(int source, int target, PointToPointSearch.Heuristic heuristic) {
+        return pointToPoint(false).aStarDistance(source, target, heuristic);
+    }
 
-                if (!processed.contains(neighbor) && newDist < distances.get(neighbor)) {
-                    distances.put(neighbor, newDist);
-                    heap.offer(new int[]{neighbor, newDist});
+    // Created on first use per graph version; reverse edges are only built once a bidirectional query needs them
+    private PointToPointSearch pointToPoint(boolean bidirectional) {
+        if (pointToPoint == null || (bidirectional && !pointToPoint.supportsBidirectional())) {
+            pointToPoint = new PointToPointSearch(bidirectional ? graph.withReverse() : graph);
+        }
+        return pointToPoint;
+    }
+
+    /**
+     * Allocation-free variant: fills dist (length >= vertexCount) using a caller-owned queue,
+     * so the same queue and array can be reused across many sources.
+     */
+    public void distances(int source, IndexedMinQueue queue, long[] dist) {
+        run(graph, source, queue, dist, null);
+    }
+
+    /**
+     * Core loop shared by the path finders. pred may be null; when given, pred[v] is set to the
+     * vertex v was last relaxed from (-1 for the source and unreachable vertices).
+     */
+    static void run(CsrGraph graph, int source, IndexedMinQueue queue, long[] dist, int[] pred) {
+        int[] offsets = graph.offsets();
+        int[] targets = graph.targets();
+        int[] weights = graph.weights();
+
+        Arrays.fill(dist, 0, graph.vertexCount(), Long.MAX_VALUE);
+        if (pred != null) Arrays.fill(pred, 0, graph.vertexCount(), -1);
+        queue.clear();
+
+        dist[source] = 0;
+        queue.insertOrDecrease(source, 0);
+
+        // A vertex leaves the queue exactly once, with its final distance
+        while (!queue.isEmpty()) {
+            int vertex = queue.pollMin();
+            long d = dist[vertex];
+
+            for (int e = offsets[vertex]; e < offsets[vertex + 1]; e++) {
+                int neighbor = targets[e];
+                long newDist = d + weights[e];
+
+                if (newDist < dist[neighbor]) {
+                    dist[neighbor] = newDist;
+                    if (pred != null) pred[neighbor] = vertex;
+                    queue.insertOrDecrease(neighbor, newDist);
                 }
             }
         }
-
-        return distances;
     }
 
     public static void main(String[] args) {
         try {
             DijkstraDistancesWithHeap pathFinder = new DijkstraDistancesWithHeap("/Users/sasmitmunagala/Desktop/Sasmit_Algos/GraphTheoryAlgos/src/main/java/com/Sasmit/dijkstraList");
-            int source = pathFinder.graph.keySet().iterator().next();
-            Map<Integer, Integer> distances = pathFinder.dijkstra(source);
-
-            System.out.println(distances.get(7));
-            System.out.println(distances.get(37));
-            System.out.println(distances.get(59));
-            System.out.println(distances.get(82));
-            System.out.println(distances.get(99));
-            System.out.println(distances.get(115));
-            System.out.println(distances.get(133));
-            System.out.println(distances.get(165));
-            System.out.println(distances.get(188));
-            System.out.println(distances.get(197));
+            int source = pathFinder.graph.firstVertex();
+            long[] distances = pathFinder.distancesTo(source, 7, 37, 59, 82, 99, 115, 133, 165, 188, 197);
+
+            for (long distance : distances) {
+                System.out.println(distance);
+            }
 
         } catch (IOException e) {
             System.err.println("Error reading file: " + e.getMessage());
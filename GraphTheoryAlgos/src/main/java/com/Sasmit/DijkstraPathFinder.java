@@ -4,36 +4,25 @@ import java.io.*;
 import java.util.*;
 
 public class DijkstraPathFinder {
-    private Map<Integer, List<int[]>> graph;
-    private int sourceVertex;
+    private final CsrGraph graph;
+    private final int sourceVertex;
+    private PointToPointSearch pointToPoint; // created on first point-to-point query
 
     public DijkstraPathFinder(String inputFile) throws IOException {
-        this.graph = new HashMap<>();
-
-        try (BufferedReader reader = new BufferedReader(new FileReader(inputFile))) {
-            String line;
-            while ((line = reader.readLine()) != null) {
-                String[] parts = line.trim().split("\\s+");
-                int vertex = Integer.parseInt(parts[0]);
-                List<int[]> edges = new ArrayList<>();
-
-                for (int i = 1; i < parts.length; i++) {
-                    // Parse edge format like "(2,3)" -> [2, 3]
-                    String edgeStr = parts[i].replace("(", "").replace(")", "");
-                    String[] edgeParts = edgeStr.split(",");
-                    int[] edge = {
-                            Integer.parseInt(edgeParts[0]),
-                            Integer.parseInt(edgeParts[1])
-                    };
-                    edges.add(edge);
-                }
+        this(CsrGraph.loadWeightedAdjacency(inputFile, false));
+    }
 
-                this.graph.put(vertex, edges);
-            }
-        }
+    // Adapter for callers that still build the old map representation
+    public DijkstraPathFinder(Map<Integer, List<int[]>> graph) {
+        this(CsrGraph.fromWeightedAdjacency(graph, false));
+    }
+
+    public DijkstraPathFinder(CsrGraph graph) {
+        if (!graph.isWeighted()) throw new IllegalArgumentException("Dijkstra needs a weighted graph");
+        this.graph = graph;
 
-        // Get first vertex as source (equivalent to next(iter(graph.keys())))
-        this.sourceVertex = this.graph.keySet().iterator().next();
+        // Smallest vertex id as source (same vertex the old HashMap iteration picked first)
+        this.sourceVertex = graph.firstVertex();
     }
 
     public Map<Integer, PathInfo> computeShortestPaths() {
@@ -41,34 +30,42 @@ public class DijkstraPathFinder {
     }
 
     public Map<Integer, PathInfo> computeShortestPaths(int source) {
+        int n = graph.vertexCount();
+        int[] offsets = graph.offsets();
+        int[] targets = graph.targets();
+        int[] weights = graph.weights();
+
         Map<Integer, PathInfo> shortestPaths = new HashMap<>();
-        Set<Integer> visited = new HashSet<>();
+        boolean[] visited = new boolean[n];
+        List<Integer> visitedList = new ArrayList<>();
 
         // Initialize all vertices with infinite distance
-        for (int vertex : this.graph.keySet()) {
-            shortestPaths.put(vertex, new PathInfo(Integer.MAX_VALUE, new ArrayList<>()));
+        for (int vertex = 0; vertex < n; vertex++) {
+            if (graph.isPresent(vertex)) {
+                shortestPaths.put(vertex, new PathInfo(Integer.MAX_VALUE, new ArrayList<>()));
+            }
         }
 
         // Set source distance to 0
         shortestPaths.put(source, new PathInfo(0, new ArrayList<>()));
-        visited.add(source);
+        visited[source] = true;
+        visitedList.add(source);
 
         // Main Dijkstra loop
-        while (!this.graph.keySet().equals(visited)) {
+        while (visitedList.size() < graph.presentCount()) {
             int sourceVertex = -1;
             int[] minEdge = null;
 
             // Find minimum edge crossing the frontier
-            for (int vertex : visited) {
-                for (int[] edge : this.graph.get(vertex)) {
-                    int neighbor = edge[0];
-                    int weight = edge[1];
+            for (int vertex : visitedList) {
+                for (int e = offsets[vertex]; e < offsets[vertex + 1]; e++) {
+                    int neighbor = targets[e];
 
-                    if (visited.contains(neighbor)) {
+                    if (visited[neighbor]) {
                         continue; // Skip if neighbor already visited
                     }
 
-                    int newDistance = shortestPaths.get(vertex).distance + weight;
+                    int newDistance = shortestPaths.get(vertex).distance + weights[e];
 
                     if (minEdge == null || newDistance < minEdge[1]) {
                         minEdge = new int[]{neighbor, newDistance};
@@ -77,22 +74,76 @@ public class DijkstraPathFinder {
                 }
             }
 
-            if (minEdge != null) {
-                int targetVertex = minEdge[0];
-                int newDistance = minEdge[1];
+            // Remaining vertices are unreachable
+            if (minEdge == null) break;
 
-                // Update shortest path
-                List<Integer> newPath = new ArrayList<>(shortestPaths.get(sourceVertex).path);
-                newPath.add(targetVertex);
+            int targetVertex = minEdge[0];
+            int newDistance = minEdge[1];
 
-                shortestPaths.put(targetVertex, new PathInfo(newDistance, newPath));
-                visited.add(targetVertex);
-            }
+            // Update shortest path
+            List<Integer> newPath = new ArrayList<>(shortestPaths.get(sourceVertex).path);
+            newPath.add(targetVertex);
+
+            shortestPaths.put(targetVertex, new PathInfo(newDistance, newPath));
+            visited[targetVertex] = true;
+            visitedList.add(targetVertex);
         }
 
         return shortestPaths;
     }
 
+    public ShortestPathTree computeShortestPathTree() {
+        return computeShortestPathTree(this.sourceVertex);
+    }
+
+    public ShortestPathTree computeShortestPathTree(int source) {
+        return computeShortestPathTree(source, QueueStrategy.D_ARY_HEAP);
+    }
+
+    /**
+     * Heap-based mode: O(E log V) time and only a distance + predecessor array per vertex.
+     * Paths are rebuilt on demand with ShortestPathTree.pathTo(target).
+     */
+    public ShortestPathTree computeShortestPathTree(int source, QueueStrategy strategy) {
+        int n = graph.vertexCount();
+        long[] dist = new long[n];
+        int[] pred = new int[n];
+        DijkstraDistancesWithHeap.run(graph, source, strategy.create(graph), dist, pred);
+        return new ShortestPathTree(source, dist, pred);
+    }
+
+    /**
+     * Shortest path to a single target, stopping as soon as target is settled.
+     * Same PathInfo shape as computeShortestPaths (path excludes the source).
+     */
+    public PathInfo shortestPath(int source, int target) {
+        return toPathInfo(pointToPoint(false).path(source, target));
+    }
+
+    /** Shortest path to a single target, searching from both ends at once. */
+    public PathInfo bidirectionalShortestPath(int source, int target) {
+        return toPathInfo(pointToPoint(true).bidirectionalPath(source, target));
+    }
+
+    /** Shortest path to a single target with A*; heuristic must never overestimate. */
+    public PathInfo aStarShortestPath(int source, int target, PointToPointSearch.Heuristic heuristic) {
+        return toPathInfo(pointToPoint(false).aStarPath(source, target, heuristic));
+    }
+
+    // Created on first use; reverse edges are only built once a bidirectional query needs them
+    private PointToPointSearch pointToPoint(boolean bidirectional) {
+        if (pointToPoint == null || (bidirectional && !pointToPoint.supportsBidirectional())) {
+            pointToPoint = new PointToPointSearch(bidirectional ? graph.withReverse() : graph);
+        }
+        return pointToPoint;
+    }
+
+    private static PathInfo toPathInfo(PointToPointSearch.Route route) {
+        List<Integer> path = new ArrayList<>(Math.max(0, route.vertices.length - 1));
+        for (int i = 1; i < route.vertices.length; i++) path.add(route.vertices[i]);
+        return new PathInfo((int) Math.min(route.distance, Integer.MAX_VALUE), path);
+    }
+
     // Helper class to store distance and path
     public static class PathInfo {
         public final int distance;
@@ -107,12 +158,12 @@ public class DijkstraPathFinder {
     public static void main(String[] args) {
         try {
             DijkstraPathFinder pathFinder = new DijkstraPathFinder("/Users/sasmitmunagala/Desktop/Sasmit_Algos/GraphTheoryAlgos/src/main/java/com/Sasmit/dijkstraList");
-            Map<Integer, PathInfo> paths = pathFinder.computeShortestPaths();
+            ShortestPathTree tree = pathFinder.computeShortestPathTree();
 
-            // Extract distances (equivalent to Python's dictionary comprehension)
+            // Only the targets we print get their PathInfo built
             Map<Integer, Integer> actual = new HashMap<>();
-            for (Map.Entry<Integer, PathInfo> entry : paths.entrySet()) {
-                actual.put(entry.getKey(), entry.getValue().distance);
+            for (int target : new int[]{7, 37, 59, 82, 99, 115, 133, 165, 188, 197}) {
+                actual.put(target, tree.pathTo(target).distance);
             }
 
             System.out.println("RESULTS: ");
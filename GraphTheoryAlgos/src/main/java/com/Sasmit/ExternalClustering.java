@@ -0,0 +1,373 @@
+package com.Sasmit;
+
+import java.io.*;
+import java.util.*;
+
+/**
+ * Max-spacing k-clustering (same answer as ClusteringAssignments.kClusteringWeighted) for edge files
+ * larger than the heap. Only the union-find and the id map are O(nodes); edges never all live in memory:
+ * 1) Runs: the file is streamed in blocks of runEdges edges; each block is sorted by cost and written
+ *    to a temporary run as packed binary records (cost, u, v) with node ids already made dense.
+ * 2) Merge: while there are more than maxFanIn runs, groups of maxFanIn are k-way merged into longer runs.
+ * 3) Cluster: the final k-way merge streams edges in cost order straight into Kruskal, stopping
+ *    at the first edge that crosses between the k clusters.
+ */
+public class ExternalClustering {
+    private static final int RECORD_BYTES = 12; // cost, u, v
+    private static final int STREAM_BUFFER_BYTES = 1 << 16;
+
+    /** I/O volume and time per phase of the last run. */
+    public static class Stats {
+        public long edges;
+        public int nodes;
+        public int runs;
+        public int mergePasses;
+        public long inputBytes;
+        public long runBytesWritten;
+        public long mergeBytesRead;
+        public long mergeBytesWritten;
+        public long clusterBytesRead; // Kruskal stops early, so usually far less than a full run
+        public long runNanos;
+        public long mergeNanos;
+        public long clusterNanos;
+
+        @Override
+        public String toString() {
+            return String.format("%d edges, %d nodes, %d runs, %d merge passes%n"
+                            + "  runs:    %.1f ms, read %.1f MB, wrote %.1f MB%n"
+                            + "  merge:   %.1f ms, read %.1f MB, wrote %.1f MB%n"
+                            + "  cluster: %.1f ms, read %.1f MB",
+                    edges, nodes, runs, mergePasses,
+                    runNanos / 1e6, inputBytes / 1e6, runBytesWritten / 1e6,
+                    mergeNanos / 1e6, mergeBytesRead / 1e6, mergeBytesWritten / 1e6,
+                    clusterNanos / 1e6, clusterBytesRead / 1e6);
+        }
+    }
+
+    private final File tempDir;
+    private final int runEdges;
+    private final int maxFanIn;
+    private Stats stats = new Stats();
+
+    /**
+     * runEdges bounds the edges held in memory at once (about 20 bytes each while sorting a run),
+     * maxFanIn the number of runs merged at once (one small read buffer each).
+     */
+    public ExternalClustering(File tempDir, int runEdges, int maxFanIn) {
+        if (runEdges < 1) throw new IllegalArgumentException("runEdges must be >= 1");
+        if (maxFanIn < 2) throw new IllegalArgumentException("maxFanIn must be >= 2");
+        this.tempDir = tempDir;
+        this.runEdges = runEdges;
+        this.maxFanIn = maxFanIn;
+    }
+
+    public Stats getStats() {
+        return stats;
+    }
+
+    /**
+     * Max spacing of a k-clustering of the edge file (readCluster format), or -1 if no edge is left
+     * between the k clusters.
+     */
+    public int maxSpacing(String filename, int k) throws IOException {
+        stats = new Stats();
+        List<File> runs = new ArrayList<>();
+        try {
+            long start = System.nanoTime();
+            IntIdMap ids = new IntIdMap(1 << 10);
+            writeRuns(filename, ids, runs);
+            stats.nodes = ids.size();
+            stats.runs = runs.size();
+            stats.runNanos = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            while (runs.size() > maxFanIn) mergePass(runs);
+            stats.mergeNanos = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            int spacing = cluster(runs, ids.size(), k);
+            stats.clusterNanos = System.nanoTime() - start;
+            return spacing;
+        } finally {
+            for (File run : runs) run.delete();
+        }
+    }
+
+    // =============================
+    // Phase 1: sorted runs
+    // =============================
+    private void writeRuns(String filename, IntIdMap ids, List<File> runs) throws IOException {
+        int[] cost = new int[runEdges];
+        int[] u = new int[runEdges];
+        int[] v = new int[runEdges];
+        long[] order = new long[runEdges];
+        int[] edge = new int[3];
+        int count = 0;
+
+        try (EdgeReader reader = new EdgeReader(new FileInputStream(filename))) {
+            reader.skipLine(); // header (ignored)
+            while (reader.next(edge)) {
+                u[count] = ids.add(edge[0]);
+                v[count] = ids.add(edge[1]);
+                cost[count] = edge[2];
+                count++;
+                stats.edges++;
+                if (count == runEdges) {
+                    runs.add(writeRun(cost, u, v, order, count));
+                    count = 0;
+                }
+            }
+            if (count > 0) runs.add(writeRun(cost, u, v, order, count));
+            stats.inputBytes = reader.bytes;
+        }
+    }
+
+    private File writeRun(int[] cost, int[] u, int[] v, long[] order, int count) throws IOException {
+        // cost in the high half, position in the low half: one primitive sort orders the block
+        for (int i = 0; i < count; i++) order[i] = ((long) cost[i] << 32) | i;
+        Arrays.sort(order, 0, count);
+
+        File run = File.createTempFile("cluster-run", ".bin", tempDir);
+        try (DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(new FileOutputStream(run), STREAM_BUFFER_BYTES))) {
+            for (int r = 0; r < count; r++) {
+                int i = (int) order[r];
+                out.writeInt(cost[i]);
+                out.writeInt(u[i]);
+                out.writeInt(v[i]);
+            }
+        }
+        stats.runBytesWritten += (long) count * RECORD_BYTES;
+        return run;
+    }
+
+    // =============================
+    // Phase 2: intermediate merges
+    // =============================
+
+    // Replaces every group of maxFanIn runs in runs with their merge
+    private void mergePass(List<File> runs) throws IOException {
+        List<File> merged = new ArrayList<>();
+        try {
+            for (int from = 0; from < runs.size(); from += maxFanIn) {
+                List<File> group = runs.subList(from, Math.min(runs.size(), from + maxFanIn));
+                File out = File.createTempFile("cluster-run", ".bin", tempDir);
+                merged.add(out);
+                try (RunMerger merger = new RunMerger(group);
+                     DataOutputStream writer = new DataOutputStream(
+                             new BufferedOutputStream(new FileOutputStream(out), STREAM_BUFFER_BYTES))) {
+                    int[] edge = new int[3];
+                    while (merger.next(edge)) {
+                        writer.writeInt(edge[2]);
+                        writer.writeInt(edge[0]);
+                        writer.writeInt(edge[1]);
+                        stats.mergeBytesWritten += RECORD_BYTES;
+                    }
+                    stats.mergeBytesRead += merger.bytesRead;
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            for (File f : merged) f.delete();
+            throw e;
+        }
+        for (File run : runs) run.delete();
+        runs.clear();
+        runs.addAll(merged);
+        stats.mergePasses++;
+    }
+
+    // =============================
+    // Phase 3: final merge into Kruskal
+    // =============================
+    private int cluster(List<File> runs, int nodes, int k) throws IOException {
+        ArrayUnionFind uf = new ArrayUnionFind(nodes);
+        try (RunMerger merger = new RunMerger(runs)) {
+            int[] edge = new int[3];
+            while (merger.next(edge)) {
+                if (uf.numClusters() > k) {
+                    uf.union(edge[0], edge[1]);
+                } else if (!uf.connected(edge[0], edge[1])) {
+                    // first edge that links two different clusters => max spacing
+                    stats.clusterBytesRead = merger.bytesRead;
+                    return edge[2];
+                }
+            }
+            stats.clusterBytesRead = merger.bytesRead;
+        }
+        return -1;
+    }
+
+    /**
+     * k-way merge of sorted runs with an indexed heap keyed by each run's current cost.
+     */
+    private class RunMerger implements Closeable {
+        private final DataInputStream[] inputs;
+        private final int[] headCost;
+        private final int[] headU;
+        private final int[] headV;
+        private final DaryHeap heap;
+        long bytesRead;
+
+        RunMerger(List<File> runs) throws IOException {
+            int n = runs.size();
+            inputs = new DataInputStream[n];
+            headCost = new int[n];
+            headU = new int[n];
+            headV = new int[n];
+            heap = new DaryHeap(Math.max(1, n), 4);
+            try {
+                for (int r = 0; r < n; r++) {
+                    inputs[r] = new DataInputStream(
+                            new BufferedInputStream(new FileInputStream(runs.get(r)), STREAM_BUFFER_BYTES));
+                    advance(r);
+                }
+            } catch (IOException e) {
+                close();
+                throw e;
+            }
+        }
+
+        /** Next edge in cost order as {u, v, cost}; false once every run is exhausted. */
+        boolean next(int[] edge) throws IOException {
+            if (heap.isEmpty()) return false;
+            int r = heap.pollMin();
+            edge[0] = headU[r];
+            edge[1] = headV[r];
+            edge[2] = headCost[r];
+            advance(r);
+            return true;
+        }
+
+        private void advance(int r) throws IOException {
+            try {
+                headCost[r] = inputs[r].readInt();
+            } catch (EOFException e) {
+                return; // run exhausted on a record boundary
+            }
+            try {
+                headU[r] = inputs[r].readInt();
+                headV[r] = inputs[r].readInt();
+            } catch (EOFException e) {
+                throw new IOException("Truncated record in sorted run " + r, e);
+            }
+            bytesRead += RECORD_BYTES;
+            heap.insertOrDecrease(r, headCost[r]);
+        }
+
+        @Override
+        public void close() throws IOException {
+            for (DataInputStream in : inputs) {
+                if (in != null) in.close();
+            }
+        }
+    }
+
+    /**
+     * Streams "u v cost" lines (extra columns ignored) without creating a String per line.
+     */
+    private static class EdgeReader implements Closeable {
+        private final InputStream in;
+        private final byte[] buffer = new byte[STREAM_BUFFER_BYTES];
+        private int pos;
+        private int limit;
+        long bytes;
+
+        EdgeReader(InputStream in) {
+            this.in = in;
+        }
+
+        void skipLine() throws IOException {
+            int c;
+            while ((c = read()) != -1 && c != '\n') {
+                // skip
+            }
+        }
+
+        /** Parses the next non-empty line into edge; false at end of input. */
+        boolean next(int[] edge) throws IOException {
+            while (true) {
+                int fields = 0;
+                int c = read();
+                while (c != -1 && c != '\n') {
+                    if (c == '-' || (c >= '0' && c <= '9')) {
+                        boolean negative = c == '-';
+                        if (negative) c = read();
+                        int value = 0;
+                        while (c >= '0' && c <= '9') {
+                            value = value * 10 + (c - '0');
+                            c = read();
+                        }
+                        if (fields < 3) edge[fields] = negative ? -value : value;
+                        fields++;
+                    } else {
+                        c = read();
+                    }
+                }
+                if (fields >= 3) return true;
+                if (fields > 0) throw new IOException("Malformed edge line, expected \"u v cost\"");
+                if (c == -1) return false;
+            }
+        }
+
+        private int read() throws IOException {
+            if (pos == limit) {
+                limit = in.read(buffer, 0, buffer.length);
+                pos = 0;
+                if (limit <= 0) {
+                    limit = 0;
+                    return -1;
+                }
+                bytes += limit;
+            }
+            return buffer[pos++] & 0xFF; // unsigned, or a 0xFF byte would read as -1 (end of input)
+        }
+
+        @Override
+        public void close() throws IOException {
+            in.close();
+        }
+    }
+
+    /**
+     * Random graph written with bytes >= 0x80 (including 0xFF) in the header and in an extra column,
+     * clustered with tiny runs and checked against kClusteringWeighted for several k.
+     */
+    static boolean checkAgainstInMemory(File tempDir, long seed) throws IOException {
+        Random rand = new Random(seed);
+        int nodes = 300;
+        List<ClusteringAssignments.WeightedEdge> edges = new ArrayList<>();
+        File file = File.createTempFile("cluster-check", ".txt", tempDir);
+        try {
+            try (OutputStream out = new BufferedOutputStream(new FileOutputStream(file))) {
+                out.write(new byte[]{'3', '0', '0', ' ', (byte) 0xC3, (byte) 0xA9, (byte) 0xFF, '\n'});
+                for (int i = 0; i < 3000; i++) {
+                    int u = 1 + rand.nextInt(nodes);
+                    int v = 1 + rand.nextInt(nodes);
+                    int cost = rand.nextInt(10_000);
+                    edges.add(new ClusteringAssignments.WeightedEdge(u, v, cost));
+                    out.write((u + " " + v + " " + cost + " ").getBytes(java.nio.charset.StandardCharsets.US_ASCII));
+                    out.write(new byte[]{(byte) 0xFF, (byte) (0x80 + rand.nextInt(0x80)), '\n'});
+                }
+            }
+            ExternalClustering clustering = new ExternalClustering(tempDir, 97, 3);
+            for (int k : new int[]{2, 4, 50, 250}) {
+                if (clustering.maxSpacing(file.getPath(), k) != ClusteringAssignments.kClusteringWeighted(edges, k)) return false;
+                if (clustering.getStats().edges != edges.size()) return false;
+            }
+            return true;
+        } finally {
+            file.delete();
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        File tempDir = new File(System.getProperty("java.io.tmpdir"));
+        System.out.println("Non-ASCII input check: " + (checkAgainstInMemory(tempDir, 21) ? "ok" : "MISMATCH"));
+
+        // small runs on purpose, so even cluster.txt goes through every phase
+        ExternalClustering clustering = new ExternalClustering(tempDir, 10_000, 8);
+        int spacing = clustering.maxSpacing("/Users/sasmitmunagala/Desktop/Sasmit_Algos/GraphTheoryAlgos/src/main/java/com/Sasmit/cluster.txt", 4);
+        System.out.println("Max spacing of 4-clustering = " + spacing);
+        System.out.println(clustering.getStats());
+    }
+}
@@ -0,0 +1,88 @@
+package com.Sasmit;
+
+import java.util.*;
+
+/**
+ * Multi-index hashing vs brute mask enumeration for Hamming clustering of 64-bit codes, d = 2..6.
+ * Mask enumeration costs sum(C(64, k), k <= d) probes per code (2080 at d = 2, ~75 million at d = 6),
+ * so when a full run would exceed PROBE_BUDGET it is timed on a random sample of codes and
+ * scaled up to the full input; those rows are marked as estimates and not cross-checked.
+ * Usage: HammingClusteringBenchmark [codes] [threads]
+ */
+public class HammingClusteringBenchmark {
+    private static final long PROBE_BUDGET = 500_000_000L;
+    private static final int BITS = 64;
+
+    public static void main(String[] args) {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 200_000;
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        long[] codes = clusteredCodes(n, n / 20, 3, 17);
+        System.out.println(n + " codes of " + BITS + " bits, " + threads + " threads");
+
+        ClusteringAssignments.kClusteringMultiIndex(codes, BITS, 2, threads); // warm-up
+        ClusteringAssignments.kClusteringMasks(Arrays.copyOf(codes, 1000), BITS, 2, threads);
+
+        // One random draw for every d: each estimate times a prefix of it, so rows stay comparable
+        long[] sampleSource = sample(codes, n, 31);
+
+        for (int d = 2; d <= 6; d++) {
+            LongCodeIndex index = new LongCodeIndex(codes, codes.length);
+            long start = System.nanoTime();
+            MultiIndexHamming mih = new MultiIndexHamming(index, BITS, d);
+            int clusters = mih.cluster(threads);
+            double mihMs = (System.nanoTime() - start) / 1e6;
+
+            long probesPerCode = 0;
+            for (int k = 1; k <= d; k++) probesPerCode += binomial(BITS, k);
+
+            String maskResult;
+            double maskMs;
+            if (probesPerCode * n <= PROBE_BUDGET) {
+                start = System.nanoTime();
+                int expected = ClusteringAssignments.kClusteringMasks(codes, BITS, d, threads);
+                maskMs = (System.nanoTime() - start) / 1e6;
+                maskResult = expected == clusters ? "ok" : "MISMATCH (" + expected + ")";
+            } else {
+                int sample = (int) Math.max(threads, Math.min(n, PROBE_BUDGET / probesPerCode));
+                long[] sampled = Arrays.copyOf(sampleSource, sample);
+                start = System.nanoTime();
+                ClusteringAssignments.kClusteringMasks(sampled, BITS, d, threads);
+                maskMs = (System.nanoTime() - start) / 1e6 * n / sample;
+                maskResult = "estimated from " + sample + " codes";
+            }
+
+            System.out.printf("d=%d  multi-index: %.1f ms, %d clusters, %d candidates (%d substrings)  "
+                            + "masks: %.1f ms  (x%.1f) %s%n",
+                    d, mihMs, clusters, mih.candidatesChecked(), mih.substringCount(),
+                    maskMs, maskMs / mihMs, maskResult);
+        }
+    }
+
+    // Random centres, each code a copy of one with up to maxFlips random bits flipped
+    private static long[] clusteredCodes(int n, int centres, int maxFlips, long seed) {
+        Random rand = new Random(seed);
+        long[] centre = new long[Math.max(1, centres)];
+        for (int i = 0; i < centre.length; i++) centre[i] = rand.nextLong();
+        long[] codes = new long[n];
+        for (int i = 0; i < n; i++) {
+            long code = centre[rand.nextInt(centre.length)];
+            int flips = rand.nextInt(maxFlips + 1);
+            for (int f = 0; f < flips; f++) code ^= 1L << rand.nextInt(BITS);
+            codes[i] = code;
+        }
+        return codes;
+    }
+
+    private static long[] sample(long[] codes, int count, long seed) {
+        Random rand = new Random(seed);
+        long[] out = new long[count];
+        for (int i = 0; i < count; i++) out[i] = codes[rand.nextInt(codes.length)];
+        return out;
+    }
+
+    private static long binomial(int n, int k) {
+        long result = 1;
+        for (int i = 1; i <= k; i++) result = result * (n - k + i) / i;
+        return result;
+    }
+}
@@ -0,0 +1,132 @@
+package com.Sasmit;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.util.*;
+
+/**
+ * Encode/decode throughput of HuffmanCodec in MB/s (of uncompressed data) on log-like text,
+ * plus a round trip through the file channel API and ChunkedHuffman scaling over thread counts.
+ * Usage: HuffmanBenchmark [file to compress] ; without a file 64 MB of synthetic log lines are used.
+ */
+public class HuffmanBenchmark {
+    private static final int ROUNDS = 5;
+
+    public static void main(String[] args) throws IOException {
+        byte[] data = args.length > 0 ? Files.readAllBytes(Paths.get(args[0])) : syntheticLogs(64 << 20, 5);
+        double mb = data.length / (1024.0 * 1024.0);
+
+        HuffmanCodec codec = HuffmanCodec.fromFrequencies(HuffmanCodec.countFrequencies(ByteBuffer.wrap(data)));
+        ByteBuffer encoded = ByteBuffer.allocateDirect((int) codec.maxEncodedBytes(data.length));
+        ByteBuffer input = ByteBuffer.allocateDirect(data.length);
+        input.put(data).flip();
+        ByteBuffer decoded = ByteBuffer.allocateDirect(data.length);
+
+        double bestEncode = Double.MAX_VALUE;
+        double bestDecode = Double.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            input.rewind();
+            encoded.clear();
+            long start = System.nanoTime();
+            codec.encode(input, encoded);
+            bestEncode = Math.min(bestEncode, (System.nanoTime() - start) / 1e9);
+            encoded.flip();
+
+            decoded.clear();
+            start = System.nanoTime();
+            codec.decode(encoded, decoded, data.length);
+            bestDecode = Math.min(bestDecode, (System.nanoTime() - start) / 1e9);
+        }
+        int encodedBytes = encoded.limit();
+
+        decoded.flip();
+        input.rewind();
+        String check = decoded.equals(input) ? "ok" : "MISMATCH";
+
+        System.out.printf("%.1f MB -> %.1f MB (ratio %.3f, %.2f bits/byte, longest code %d)%n",
+                mb, encodedBytes / (1024.0 * 1024.0), (double) encodedBytes / data.length,
+                encodedBytes * 8.0 / data.length, codec.maxCodeLength());
+        System.out.printf("encode: %.0f MB/s%n", mb / bestEncode);
+        System.out.printf("decode: %.0f MB/s  round trip %s%n", mb / bestDecode, check);
+
+        // framed file round trip through channels
+        Path source = Files.createTempFile("huffman", ".log");
+        Path packed = Files.createTempFile("huffman", ".huf");
+        Path unpacked = Files.createTempFile("huffman", ".out");
+        try {
+            Files.write(source, data);
+            long start = System.nanoTime();
+            try (FileChannel in = FileChannel.open(source, StandardOpenOption.READ);
+                 FileChannel out = FileChannel.open(packed, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                HuffmanCodec.compress(in, out);
+            }
+            double compressSeconds = (System.nanoTime() - start) / 1e9;
+            start = System.nanoTime();
+            try (FileChannel in = FileChannel.open(packed, StandardOpenOption.READ);
+                 FileChannel out = FileChannel.open(unpacked, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                HuffmanCodec.decompress(in, out);
+            }
+            double decompressSeconds = (System.nanoTime() - start) / 1e9;
+            boolean same = Arrays.equals(data, Files.readAllBytes(unpacked));
+            System.out.printf("channels: compress %.0f MB/s, decompress %.0f MB/s, %d bytes on disk, round trip %s%n",
+                    mb / compressSeconds, mb / decompressSeconds, Files.size(packed), same ? "ok" : "MISMATCH");
+        } finally {
+            Files.deleteIfExists(source);
+            Files.deleteIfExists(packed);
+            Files.deleteIfExists(unpacked);
+        }
+
+        chunked(data, mb);
+    }
+
+    // Chunk-parallel compress/decompress with 1..availableProcessors threads
+    private static void chunked(byte[] data, double mb) {
+        ByteBuffer input = ByteBuffer.wrap(data);
+        int maxThreads = Runtime.getRuntime().availableProcessors();
+        for (int threads = 1; threads <= maxThreads; threads *= 2) {
+            ChunkedHuffman chunked = new ChunkedHuffman(threads);
+            double bestCompress = Double.MAX_VALUE;
+            double bestDecompress = Double.MAX_VALUE;
+            ByteBuffer packed = null;
+            ByteBuffer unpacked = null;
+            for (int round = 0; round < ROUNDS; round++) {
+                long start = System.nanoTime();
+                packed = chunked.compress(input.duplicate());
+                bestCompress = Math.min(bestCompress, (System.nanoTime() - start) / 1e9);
+                start = System.nanoTime();
+                unpacked = chunked.decompress(packed.duplicate());
+                bestDecompress = Math.min(bestDecompress, (System.nanoTime() - start) / 1e9);
+            }
+            System.out.printf("chunked, %d threads: compress %.0f MB/s, decompress %.0f MB/s, %d bytes, round trip %s%n",
+                    threads, mb / bestCompress, mb / bestDecompress, packed.remaining(),
+                    unpacked.equals(input.duplicate()) ? "ok" : "MISMATCH");
+        }
+    }
+
+    // Timestamped lines with a skewed mix of levels, components and paths, like an access/app log
+    static byte[] syntheticLogs(int bytes, long seed) {
+        Random rand = new Random(seed);
+        String[] levels = {"INFO ", "INFO ", "INFO ", "DEBUG", "WARN ", "ERROR"};
+        String[] paths = {"/api/users", "/api/orders", "/api/orders/items", "/health", "/api/search", "/static/app.js"};
+        String[] methods = {"GET", "GET", "GET", "POST", "PUT", "DELETE"};
+        StringBuilder line = new StringBuilder(160);
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes + 256);
+        long millis = 1_760_000_000_000L;
+        while (out.size() < bytes) {
+            millis += rand.nextInt(50);
+            line.setLength(0);
+            line.append(millis).append(' ').append(levels[rand.nextInt(levels.length)])
+                    .append(" [worker-").append(rand.nextInt(16)).append("] ")
+                    .append(methods[rand.nextInt(methods.length)]).append(' ')
+                    .append(paths[(int) Math.min(paths.length - 1, (long) (-Math.log(1 - rand.nextDouble()) * 1.5))])
+                    .append(" status=").append(rand.nextInt(20) == 0 ? 500 : 200)
+                    .append(" latency=").append(rand.nextInt(250)).append("ms")
+                    .append(" req=").append(Long.toHexString(rand.nextLong())).append('\n');
+            byte[] b = line.toString().getBytes(java.nio.charset.StandardCharsets.US_ASCII);
+            out.write(b, 0, b.length);
+        }
+        return Arrays.copyOf(out.toByteArray(), bytes);
+    }
+}
@@ -0,0 +1,278 @@
+package com.Sasmit;
+
+import java.util.*;
+
+/**
+ * Huffman code lengths straight from a primitive weight array, without HuffmanNode objects.
+ */
+public final class HuffmanCodeLengths {
+
+    private HuffmanCodeLengths() {
+    }
+
+    /**
+     * Optimal (unbounded) code length per symbol; 0 for symbols of weight 0.
+     * A lone used symbol gets length 1 so that it still has a code.
+     * Leaves are 0..n-1 and merge i creates node n + i, so every parent has a higher id than its
+     * children and the depths fall out of one backwards pass.
+     */
+    public static int[] compute(long[] weights) {
+        int n = weights.length;
+        int[] lengths = new int[n];
+        int used = 0;
+        int last = -1;
+        for (int i = 0; i < n; i++) {
+            if (weights[i] < 0) throw new IllegalArgumentException("Negative weight for symbol " + i);
+            if (weights[i] > 0) {
+                used++;
+                last = i;
+            }
+        }
+        if (used == 0) return lengths;
+        if (used == 1) {
+            lengths[last] = 1;
+            return lengths;
+        }
+
+        long[] weight = new long[2 * n];
+        int[] parent = new int[2 * n];
+        DaryHeap heap = new DaryHeap(2 * n, 4);
+        for (int i = 0; i < n; i++) {
+            if (weights[i] > 0) {
+                weight[i] = weights[i];
+                heap.insertOrDecrease(i, weights[i]);
+            }
+        }
+
+        int next = n;
+        while (heap.size() > 1) {
+            int a = heap.pollMin();
+            int b = heap.pollMin();
+            weight[next] = weight[a] + weight[b];
+            parent[a] = next;
+            parent[b] = next;
+            heap.insertOrDecrease(next, weight[next]);
+            next++;
+        }
+
+        int[] depth = new int[2 * n];
+        for (int node = next - 2; node >= n; node--) depth[node] = depth[parent[node]] + 1;
+        for (int i = 0; i < n; i++) {
+            if (weights[i] > 0) lengths[i] = depth[parent[i]] + 1;
+        }
+        return lengths;
+    }
+
+    /**
+     * Same lengths as compute (up to ties) for alphabets with millions of symbols: one sort of the used
+     * symbols, then computeInPlace over a single long[] of their weights. No heap and no per-node objects.
+     */
+    public static int[] computeLinear(long[] weights) {
+        int[] lengths = new int[weights.length];
+        int[] symbols = usedSymbolsByWeight(weights);
+        long[] sorted = new long[symbols.length];
+        for (int i = 0; i < symbols.length; i++) sorted[i] = weights[symbols[i]];
+        computeInPlace(sorted);
+        for (int i = 0; i < symbols.length; i++) lengths[symbols[i]] = (int) sorted[i];
+        return lengths;
+    }
+
+    /**
+     * Moffat-Katajainen in-place Huffman: sorted holds non-decreasing weights and is overwritten with
+     * their code lengths (the lightest symbol gets the longest code). O(n) time, O(1) extra space.
+     * - pass 1 runs the two-queue construction inside the array: slots [0, next) become internal nodes
+     *   holding either a weight or, once merged, the index of their parent
+     * - pass 2 turns parent indices into depths, root first
+     * - pass 3 hands out leaf depths level by level from the count of internal nodes per depth
+     * A lone symbol gets length 1 so that it still has a code.
+     */
+    public static void computeInPlace(long[] sorted) {
+        int n = sorted.length;
+        for (int i = 0; i < n; i++) {
+            if (sorted[i] < 0) throw new IllegalArgumentException("Negative weight at " + i);
+            if (i > 0 && sorted[i] < sorted[i - 1]) throw new IllegalArgumentException("Weights not sorted at " + i);
+        }
+        if (n == 0) return;
+        if (n == 1) {
+            sorted[0] = 1;
+            return;
+        }
+
+        // pass 1: leaves are read from 'leaf' up, internal nodes from 'root' up
+        sorted[0] += sorted[1];
+        int root = 0;
+        int leaf = 2;
+        for (int next = 1; next < n - 1; next++) {
+            // first child
+            if (leaf >= n || sorted[root] < sorted[leaf]) {
+                sorted[next] = sorted[root];
+                sorted[root++] = next;
+            } else {
+                sorted[next] = sorted[leaf++];
+            }
+            // second child
+            if (leaf >= n || (root < next && sorted[root] < sorted[leaf])) {
+                sorted[next] += sorted[root];
+                sorted[root++] = next;
+            } else {
+                sorted[next] += sorted[leaf++];
+            }
+        }
+
+        // pass 2: parents sit at higher indices, so walking down gives every parent's depth first
+        sorted[n - 2] = 0;
+        for (int next = n - 3; next >= 0; next--) sorted[next] = sorted[(int) sorted[next]] + 1;
+
+        // pass 3: at each depth the free slots not taken by internal nodes are leaves
+        int available = 1;
+        int depth = 0;
+        root = n - 2;
+        int next = n - 1;
+        while (available > 0) {
+            int internal = 0;
+            while (root >= 0 && sorted[root] == depth) {
+                internal++;
+                root--;
+            }
+            while (available > internal) {
+                sorted[next--] = depth;
+                available--;
+            }
+            available = 2 * internal;
+            depth++;
+        }
+    }
+
+    /**
+     * Optimal code lengths with no code longer than maxLength (package-merge).
+     * Level 0 holds the used symbols sorted by weight; every higher level holds the symbols again
+     * merged with "packages" (adjacent pairs) of the level below. The cheapest 2(n - 1) items of the top
+     * level form the optimal code, and a symbol's length is the number of levels in which it is picked.
+     * Picked items are always a prefix of their level, so each level only needs to remember which
+     * positions hold symbols: O(n * maxLength) time and bits of memory.
+     */
+    public static int[] lengthLimited(long[] weights, int maxLength) {
+        int n = weights.length;
+        int[] lengths = new int[n];
+        int[] symbols = usedSymbolsByWeight(weights);
+        int m = symbols.length;
+        if (m == 0) return lengths;
+        if (m == 1) {
+            lengths[symbols[0]] = 1;
+            return lengths;
+        }
+        if (maxLength < 1 || (maxLength < 31 && m > 1 << maxLength)) {
+            throw new IllegalArgumentException(m + " symbols cannot fit in codes of at most " + maxLength + " bits");
+        }
+
+        long[] leaf = new long[m];
+        for (int i = 0; i < m; i++) leaf[i] = weights[symbols[i]];
+
+        boolean[][] isLeaf = new boolean[maxLength][];
+        isLeaf[0] = new boolean[m];
+        Arrays.fill(isLeaf[0], true);
+        long[] below = leaf;
+        for (int level = 1; level < maxLength; level++) {
+            int packages = below.length / 2;
+            long[] items = new long[m + packages];
+            boolean[] flags = new boolean[items.length];
+            int li = 0, pi = 0;
+            for (int k = 0; k < items.length; k++) {
+                // symbols win ties, which keeps codes as short as possible
+                if (pi == packages || (li < m && leaf[li] <= below[2 * pi] + below[2 * pi + 1])) {
+                    items[k] = leaf[li++];
+                    flags[k] = true;
+                } else {
+                    items[k] = below[2 * pi] + below[2 * pi + 1];
+                    pi++;
+                }
+            }
+            isLeaf[level] = flags;
+            below = items;
+        }
+
+        int picked = 2 * m - 2;
+        for (int level = maxLength - 1; level >= 0 && picked > 0; level--) {
+            int leaves = 0;
+            for (int k = 0; k < picked; k++) {
+                if (isLeaf[level][k]) leaves++;
+            }
+            // the picked symbols are the cheapest ones of the level, i.e. the first leaves
+            for (int i = 0; i < leaves; i++) lengths[symbols[i]]++;
+            picked = 2 * (picked - leaves);
+        }
+        return lengths;
+    }
+
+    /**
+     * Symbols with weight > 0, sorted by weight (ties by symbol), over primitive arrays only,
+     * so no boxing even for millions of symbols.
+     */
+    static int[] usedSymbolsByWeight(long[] weights) {
+        int used = 0;
+        for (int i = 0; i < weights.length; i++) {
+            if (weights[i] < 0) throw new IllegalArgumentException("Negative weight for symbol " + i);
+            if (weights[i] > 0) used++;
+        }
+        int[] symbols = new int[used];
+        long[] keys = new long[used];
+        long maxWeight = 0;
+        int k = 0;
+        for (int i = 0; i < weights.length; i++) {
+            if (weights[i] > 0) {
+                symbols[k] = i;
+                keys[k++] = weights[i];
+                maxWeight = Math.max(maxWeight, weights[i]);
+            }
+        }
+        if (maxWeight < 1L << 31) {
+            // usual case (counts): sort packed (weight << 32 | symbol) keys with a primitive sort
+            for (int i = 0; i < used; i++) keys[i] = keys[i] << 32 | symbols[i];
+            Arrays.sort(keys);
+            for (int i = 0; i < used; i++) symbols[i] = (int) keys[i];
+        } else {
+            sortByKey(keys, symbols);
+        }
+        return symbols;
+    }
+
+    // Stable bottom-up merge sort of keys, carrying ids along; keys move with the ids so the
+    // comparisons read memory sequentially instead of chasing ids into the weight array
+    private static void sortByKey(long[] keys, int[] ids) {
+        int n = keys.length;
+        long[] keyA = keys, keyB = new long[n];
+        int[] idA = ids, idB = new int[n];
+        for (int width = 1; width < n; width *= 2) {
+            for (int lo = 0; lo < n; lo += 2 * width) {
+                int mid = Math.min(lo + width, n);
+                int hi = Math.min(lo + 2 * width, n);
+                int i = lo, j = mid;
+                for (int out = lo; out < hi; out++) {
+                    if (j >= hi || (i < mid && keyA[i] <= keyA[j])) {
+                        keyB[out] = keyA[i];
+                        idB[out] = idA[i++];
+                    } else {
+                        keyB[out] = keyA[j];
+                        idB[out] = idA[j++];
+                    }
+                }
+            }
+            long[] keyTmp = keyA;
+            keyA = keyB;
+            keyB = keyTmp;
+            int[] idTmp = idA;
+            idA = idB;
+            idB = idTmp;
+        }
+        if (keyA != keys) {
+            System.arraycopy(keyA, 0, keys, 0, n);
+            System.arraycopy(idA, 0, ids, 0, n);
+        }
+    }
+
+    public static int maxLength(int[] lengths) {
+        int max = 0;
+        for (int len : lengths) max = Math.max(max, len);
+        return max;
+    }
+}
@@ -0,0 +1,396 @@
+package com.Sasmit;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.*;
+
+/**
+ * Canonical Huffman code over bytes, with a bit-packed encoder and a table-driven decoder.
+ * - Codes are canonical, so the 256 code lengths are all a decoder needs to rebuild them.
+ * - The encoder packs codes MSB-first through a 64-bit accumulator and stores 32 bits at a time.
+ * - The decoder looks up ROOT_BITS bits at once in a root table; codes longer than that go through
+ *   one second-level table sized for the longest code under that prefix.
+ * Code lengths are capped at MAX_CODE_LENGTH (or less) with package-merge, which gives the best code
+ * that fits; the cap keeps every table small and lets one accumulator refill cover any code.
+ *
+ * Framed format (compress / decompress): 8-byte original length, 256 code lengths, then the bits.
+ */
+public class HuffmanCodec {
+    public static final int MAX_CODE_LENGTH = 24;
+    private static final int ROOT_BITS = 10;
+    private static final int HEADER_BYTES = 8 + 256;
+    private static final int CHUNK_BYTES = 1 << 20;
+
+    private final int[] lengths;
+    private final int[] codes = new int[256];
+    private final int maxLength;
+    // leaf: symbol << 8 | length; pointer to a subtable: 1 << 31 | offset << 5 | subtable bits
+    private final int[] table;
+
+    private HuffmanCodec(int[] lengths) {
+        this.lengths = lengths;
+        this.maxLength = HuffmanCodeLengths.maxLength(lengths);
+        assignCanonicalCodes();
+        this.table = buildTable();
+    }
+
+    /** Huffman code for the given byte frequencies (length-capped at MAX_CODE_LENGTH). */
+    public static HuffmanCodec fromFrequencies(long[] frequencies) {
+        return fromFrequencies(frequencies, MAX_CODE_LENGTH);
+    }
+
+    /** Optimal code for the given byte frequencies with no code longer than maxCodeLength (8..24). */
+    public static HuffmanCodec fromFrequencies(long[] frequencies, int maxCodeLength) {
+        if (frequencies.length != 256) throw new IllegalArgumentException("Need 256 byte frequencies");
+        if (maxCodeLength < 8 || maxCodeLength > MAX_CODE_LENGTH) {
+            throw new IllegalArgumentException("maxCodeLength must be in 8.." + MAX_CODE_LENGTH);
+        }
+        int[] lengths = HuffmanCodeLengths.compute(frequencies);
+        if (HuffmanCodeLengths.maxLength(lengths) > maxCodeLength) {
+            lengths = HuffmanCodeLengths.lengthLimited(frequencies, maxCodeLength);
+        }
+        return new HuffmanCodec(lengths);
+    }
+
+    /** The canonical code with these lengths (0 = symbol unused), e.g. read back from a header. */
+    public static HuffmanCodec fromCodeLengths(int[] lengths) {
+        if (lengths.length != 256) throw new IllegalArgumentException("Need 256 code lengths");
+        long kraft = 0; // sum of 2^(MAX - len) must not exceed 2^MAX
+        for (int len : lengths) {
+            if (len < 0 || len > MAX_CODE_LENGTH) throw new IllegalArgumentException("Bad code length " + len);
+            if (len > 0) kraft += 1L << (MAX_CODE_LENGTH - len);
+        }
+        if (kraft > 1L << MAX_CODE_LENGTH) throw new IllegalArgumentException("Code lengths do not form a prefix code");
+        return new HuffmanCodec(lengths.clone());
+    }
+
+    /** Byte frequencies of data's remaining bytes (its position is not moved). */
+    public static long[] countFrequencies(ByteBuffer data) {
+        long[] frequencies = new long[256];
+        for (int i = data.position(); i < data.limit(); i++) frequencies[data.get(i) & 0xFF]++;
+        return frequencies;
+    }
+
+    public int[] codeLengths() {
+        return lengths.clone();
+    }
+
+    public int codeOf(int symbol) {
+        return codes[symbol];
+    }
+
+    public int maxCodeLength() {
+        return maxLength;
+    }
+
+    /** Upper bound on the encoded size of byteCount bytes, padding included. */
+    public long maxEncodedBytes(long byteCount) {
+        return (byteCount * maxLength + 7) / 8 + 8;
+    }
+
+    // =============================
+    // Code construction
+    // =============================
+    private void assignCanonicalCodes() {
+        int[] count = new int[MAX_CODE_LENGTH + 1];
+        for (int len : lengths) {
+            if (len > 0) count[len]++;
+        }
+        int[] next = new int[MAX_CODE_LENGTH + 2];
+        int code = 0;
+        for (int len = 1; len <= MAX_CODE_LENGTH; len++) {
+            code = (code + count[len - 1]) << 1;
+            next[len] = code;
+        }
+        for (int s = 0; s < 256; s++) {
+            if (lengths[s] > 0) codes[s] = next[lengths[s]]++;
+        }
+    }
+
+    private int[] buildTable() {
+        int rootSize = 1 << ROOT_BITS;
+        int[] subBits = new int[rootSize];
+        for (int s = 0; s < 256; s++) {
+            int len = lengths[s];
+            if (len > ROOT_BITS) {
+                int prefix = codes[s] >>> (len - ROOT_BITS);
+                subBits[prefix] = Math.max(subBits[prefix], len - ROOT_BITS);
+            }
+        }
+
+        int size = rootSize;
+        int[] offset = new int[rootSize];
+        for (int p = 0; p < rootSize; p++) {
+            if (subBits[p] > 0) {
+                offset[p] = size;
+                size += 1 << subBits[p];
+            }
+        }
+
+        int[] t = new int[size];
+        for (int p = 0; p < rootSize; p++) {
+            if (subBits[p] > 0) t[p] = 1 << 31 | offset[p] << 5 | subBits[p];
+        }
+        for (int s = 0; s < 256; s++) {
+            int len = lengths[s];
+            if (len == 0) continue;
+            int leaf = s << 8 | len;
+            if (len <= ROOT_BITS) {
+                int first = codes[s] << (ROOT_BITS - len);
+                Arrays.fill(t, first, first + (1 << (ROOT_BITS - len)), leaf);
+            } else {
+                int prefix = codes[s] >>> (len - ROOT_BITS);
+                int rest = len - ROOT_BITS;
+                int first = offset[prefix] + ((codes[s] & ((1 << rest) - 1)) << (subBits[prefix] - rest));
+                Arrays.fill(t, first, first + (1 << (subBits[prefix] - rest)), leaf);
+            }
+        }
+        return t;
+    }
+
+    // =============================
+    // Encoding
+    // =============================
+
+    /**
+     * Streaming encoder: feed any number of input chunks, then finish().
+     */
+    public class Encoder {
+        private long acc;  // pending bits in the low end, oldest first
+        private int bits;
+
+        /**
+         * Encode all of in into out; out must have room for maxEncodedBytes(in.remaining()).
+         */
+        public void encode(ByteBuffer in, ByteBuffer out) {
+            long a = acc;
+            int n = bits;
+            while (in.hasRemaining()) {
+                int s = in.get() & 0xFF;
+                int len = lengths[s];
+                if (len == 0) throw new IllegalArgumentException("Symbol " + s + " has no code");
+                a = (a << len) | codes[s];
+                n += len;
+                if (n >= 32) {
+                    n -= 32;
+                    out.putInt((int) (a >>> n));
+                }
+            }
+            acc = a;
+            bits = n;
+        }
+
+        /** Flush the last bits, zero-padded to a whole byte. */
+        public void finish(ByteBuffer out) {
+            while (bits >= 8) {
+                bits -= 8;
+                out.put((byte) (acc >>> bits));
+            }
+            if (bits > 0) out.put((byte) (acc << (8 - bits)));
+            acc = 0;
+            bits = 0;
+        }
+    }
+
+    public Encoder encoder() {
+        return new Encoder();
+    }
+
+    /** Encode in's remaining bytes into out as one padded bitstream. */
+    public void encode(ByteBuffer in, ByteBuffer out) {
+        Encoder encoder = new Encoder();
+        encoder.encode(in, out);
+        encoder.finish(out);
+    }
+
+    // =============================
+    // Decoding
+    // =============================
+
+    /**
+     * Streaming decoder for a bitstream of a known number of symbols.
+     */
+    public class Decoder {
+        private long acc;  // buffered input bits in the low end, oldest first
+        private int bits;
+        private long remaining;
+
+        Decoder(long symbols) {
+            this.remaining = symbols;
+        }
+
+        public long remaining() {
+            return remaining;
+        }
+
+        /**
+         * Decode from in into out until in runs dry (unless endOfInput), out is full or every
+         * symbol is decoded. Leftover input bytes stay in in for the next call.
+         */
+        public void decode(ByteBuffer in, ByteBuffer out, boolean endOfInput) {
+            long a = acc;
+            int n = bits;
+            long left = remaining;
+            int[] t = table;
+            int need = Math.max(maxLength, ROOT_BITS); // enough for any table lookup
+
+            while (left > 0 && out.hasRemaining()) {
+                if (n < 32) {
+                    if (in.remaining() >= 4) {
+                        a = (a << 32) | (in.getInt() & 0xFFFFFFFFL);
+                        n += 32;
+                    } else {
+                        while (n <= 56 && in.hasRemaining()) {
+                            a = (a << 8) | (in.get() & 0xFF);
+                            n += 8;
+                        }
+                        if (n < need) {
+                            if (!endOfInput) break;
+                            // past the end: zero padding, only the last symbols can touch it
+                            a <<= 32;
+                            n += 32;
+                        }
+                    }
+                }
+
+                int entry = t[(int) (a >>> (n - ROOT_BITS)) & ((1 << ROOT_BITS) - 1)];
+                if (entry < 0) {
+                    int sub = entry & 31;
+                    int index = (int) (a >>> (n - ROOT_BITS - sub)) & ((1 << sub) - 1);
+                    entry = t[((entry >>> 5) & 0x3FFFFFF) + index];
+                }
+                int len = entry & 0xFF;
+                if (len == 0) throw new IllegalStateException("Corrupt Huffman stream");
+                n -= len;
+                out.put((byte) (entry >>> 8));
+                left--;
+            }
+            acc = a;
+            bits = n;
+            remaining = left;
+        }
+    }
+
+    public Decoder decoder(long symbols) {
+        return new Decoder(symbols);
+    }
+
+    /** Decode symbols bytes from the bitstream in into out. */
+    public void decode(ByteBuffer in, ByteBuffer out, long symbols) {
+        Decoder decoder = new Decoder(symbols);
+        decoder.decode(in, out, true);
+        if (decoder.remaining() > 0) throw new IllegalStateException("Output buffer too small");
+    }
+
+    // =============================
+    // Framed format
+    // =============================
+    public static ByteBuffer compress(ByteBuffer data) {
+        HuffmanCodec codec = fromFrequencies(countFrequencies(data));
+        long length = data.remaining();
+        ByteBuffer out = ByteBuffer.allocate((int) Math.min(Integer.MAX_VALUE - 8, HEADER_BYTES + codec.maxEncodedBytes(length)));
+        codec.writeHeader(out, length);
+        codec.encode(data, out);
+        out.flip();
+        return out;
+    }
+
+    public static ByteBuffer decompress(ByteBuffer compressed) {
+        long length = compressed.getLong();
+        HuffmanCodec codec = readCodeLengths(compressed);
+        if (length > Integer.MAX_VALUE - 8) throw new IllegalArgumentException("Too large for one buffer, use the channel API");
+        ByteBuffer out = ByteBuffer.allocate((int) length);
+        codec.decode(compressed, out, length);
+        out.flip();
+        return out;
+    }
+
+    /**
+     * Compress a whole file: one pass to count frequencies, one to encode, in CHUNK_BYTES pieces.
+     * Returns the number of bytes written.
+     */
+    public static long compress(FileChannel in, WritableByteChannel out) throws IOException {
+        ByteBuffer chunk = ByteBuffer.allocateDirect(CHUNK_BYTES);
+        long[] frequencies = new long[256];
+        long length = 0;
+        long start = in.position();
+        while (in.read(chunk) > 0 || chunk.position() > 0) {
+            chunk.flip();
+            length += chunk.remaining();
+            while (chunk.hasRemaining()) frequencies[chunk.get() & 0xFF]++;
+            chunk.clear();
+        }
+        in.position(start);
+
+        HuffmanCodec codec = fromFrequencies(frequencies);
+        ByteBuffer encoded = ByteBuffer.allocateDirect((int) codec.maxEncodedBytes(CHUNK_BYTES) + HEADER_BYTES);
+        codec.writeHeader(encoded, length);
+        long written = 0;
+
+        Encoder encoder = codec.encoder();
+        while (in.read(chunk) > 0 || chunk.position() > 0) {
+            chunk.flip();
+            encoder.encode(chunk, encoded);
+            chunk.clear();
+            written += drain(encoded, out);
+        }
+        encoder.finish(encoded);
+        written += drain(encoded, out);
+        return written;
+    }
+
+    /** Decompress a framed stream; returns the number of bytes written. */
+    public static long decompress(ReadableByteChannel in, WritableByteChannel out) throws IOException {
+        ByteBuffer input = ByteBuffer.allocateDirect(CHUNK_BYTES);
+        while (input.position() < HEADER_BYTES) {
+            if (in.read(input) < 0) throw new EOFException("Truncated Huffman header");
+        }
+        input.flip();
+        long length = input.getLong();
+        HuffmanCodec codec = readCodeLengths(input);
+
+        Decoder decoder = codec.decoder(length);
+        ByteBuffer decoded = ByteBuffer.allocateDirect(CHUNK_BYTES);
+        boolean end = false;
+        while (decoder.remaining() > 0) {
+            decoder.decode(input, decoded, end);
+            if (decoded.position() > 0) {
+                drain(decoded, out);
+            } else {
+                // decoder is waiting for more bits
+                input.compact();
+                end = in.read(input) < 0;
+                input.flip();
+            }
+        }
+        return length;
+    }
+
+    private void writeHeader(ByteBuffer out, long length) {
+        out.putLong(length);
+        writeCodeLengths(out);
+    }
+
+    /** The 256 code lengths, one byte each: all a decoder needs to rebuild the code. */
+    void writeCodeLengths(ByteBuffer out) {
+        for (int s = 0; s < 256; s++) out.put((byte) lengths[s]);
+    }
+
+    static HuffmanCodec readCodeLengths(ByteBuffer in) {
+        int[] lengths = new int[256];
+        for (int s = 0; s < 256; s++) lengths[s] = in.get() & 0xFF;
+        return fromCodeLengths(lengths);
+    }
+
+    // Write out everything buffered in buffer, leaving it cleared
+    private static long drain(ByteBuffer buffer, WritableByteChannel out) throws IOException {
+        buffer.flip();
+        long bytes = buffer.remaining();
+        while (buffer.hasRemaining()) out.write(buffer);
+        buffer.clear();
+        return bytes;
+    }
+}
@@ -40,9 +40,42 @@ public class HuffmanCoding {
         return new int[]{root.minLen, root.maxLen};
     }
 
+    // Same input as readCode but into a primitive array, for alphabets with millions of symbols
+    public static long[] readWeights(String filepath) throws IOException {
+        BufferedReader br = new BufferedReader(new FileReader(filepath), 1 << 16);
+        String line = br.readLine();
+        long[] weights = new long[line == null ? 0 : Math.max(0, Integer.parseInt(line.trim()))];
+        int i = 0;
+        while ((line = br.readLine()) != null) {
+            line = line.trim();
+            if (line.isEmpty()) continue;
+            int end = 0;
+            while (end < line.length() && !Character.isWhitespace(line.charAt(end))) end++;
+            if (i == weights.length) weights = Arrays.copyOf(weights, Math.max(16, 2 * i));
+            weights[i++] = Long.parseLong(line.substring(0, end));
+        }
+        br.close();
+        return i == weights.length ? weights : Arrays.copyOf(weights, i);
+    }
+
+    /**
+     * {min, max} code length with the same semantics as huffmanCoding(Map): every symbol is a leaf,
+     * zero weights included, and a lone symbol is the root (length 0). Sorts a copy of the weights once
+     * and runs HuffmanCodeLengths.computeInPlace on it, so no node objects are created.
+     * With tied weights either version may pick a different (equally optimal) tree.
+     */
+    public static int[] huffmanCoding(long[] weights) {
+        if (weights.length <= 1) return new int[]{0, 0};
+        long[] sorted = weights.clone();
+        Arrays.sort(sorted);
+        HuffmanCodeLengths.computeInPlace(sorted);
+        // lengths come out non-increasing: the lightest symbol has the longest code
+        return new int[]{(int) sorted[sorted.length - 1], (int) sorted[0]};
+    }
+
     public static void main(String[] args) throws IOException {
-        Map<Integer, HuffmanNode> code = readCode("/Users/sasmitmunagala/Desktop/Sasmit_Algos/GraphTheoryAlgos/src/main/java/com/Sasmit/huffmanFile.txt");
-        int[] result = huffmanCoding(code);
+        long[] weights = readWeights("/Users/sasmitmunagala/Desktop/Sasmit_Algos/GraphTheoryAlgos/src/main/java/com/Sasmit/huffmanFile.txt");
+        int[] result = huffmanCoding(weights);
         System.out.println("File min/max: " + Arrays.toString(result));
     }
 }
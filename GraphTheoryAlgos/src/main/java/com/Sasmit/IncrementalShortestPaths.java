@@ -0,0 +1,144 @@
+package com.Sasmit;
+
+import java.util.*;
+
+/**
+ * Keeps shortest-path results up to date under edge insertions and weight decreases.
+ * Both can only shorten distances, so a tree is repaired by seeding a heap with the heads of
+ * the updated edges that now give a better distance and re-running Dijkstra from just those
+ * vertices: only the part of the tree that actually improves gets touched.
+ */
+public final class IncrementalShortestPaths {
+
+    private IncrementalShortestPaths() {
+    }
+
+    /**
+     * Insert from -> to with the given weight, or lower the weight of the cheapest existing
+     * from -> to edge to it. An update that would raise a weight is rejected.
+     */
+    public static final class EdgeUpdate {
+        public final int from;
+        public final int to;
+        public final int weight;
+
+        public EdgeUpdate(int from, int to, int weight) {
+            if (from < 0 || to < 0) throw new IllegalArgumentException("Negative vertex id");
+            if (weight < 0) throw new IllegalArgumentException("Negative edge weight " + weight);
+            this.from = from;
+            this.to = to;
+            this.weight = weight;
+        }
+
+        @Override
+        public String toString() {
+            return "(" + from + " -> " + to + ", " + weight + ")";
+        }
+    }
+
+    /**
+     * New graph with the batch applied (the input graph is left untouched).
+     */
+    public static CsrGraph applyUpdates(CsrGraph graph, List<EdgeUpdate> updates) {
+        int[] offsets = graph.offsets();
+        int[] targets = graph.targets();
+        int[] weights = graph.weights();
+
+        int n = graph.vertexCount();
+        for (EdgeUpdate u : updates) n = Math.max(n, Math.max(u.from, u.to) + 1);
+
+        int m = graph.edgeCount();
+        int[] src = new int[m + updates.size()];
+        int[] dst = new int[m + updates.size()];
+        int[] w = new int[m + updates.size()];
+        for (int v = 0; v < graph.vertexCount(); v++) {
+            for (int e = offsets[v]; e < offsets[v + 1]; e++) {
+                src[e] = v;
+                dst[e] = targets[e];
+                w[e] = weights[e];
+            }
+        }
+
+        boolean[] present = Arrays.copyOf(graph.presentMask(), n);
+        int size = m;
+        // (from << 32 | to) -> slot of an edge this batch appended, so a repeated update
+        // lowers it in place just like an update to an edge that already existed
+        Map<Long, Integer> appended = new HashMap<>();
+        for (EdgeUpdate u : updates) {
+            present[u.from] = true;
+            present[u.to] = true;
+
+            // cheapest existing from -> to edge, if any
+            int existing = -1;
+            if (u.from < graph.vertexCount()) {
+                for (int e = offsets[u.from]; e < offsets[u.from + 1]; e++) {
+                    if (targets[e] == u.to && (existing < 0 || w[e] < w[existing])) existing = e;
+                }
+            }
+            long key = ((long) u.from << 32) | u.to;
+            if (existing < 0) existing = appended.getOrDefault(key, -1);
+
+            if (existing < 0) {
+                src[size] = u.from;
+                dst[size] = u.to;
+                w[size] = u.weight;
+                appended.put(key, size);
+                size++;
+            } else if (u.weight < w[existing]) {
+                w[existing] = u.weight;
+            } else if (u.weight > w[existing]) {
+                throw new IllegalArgumentException("Weight increase not supported: " + u);
+            }
+        }
+
+        return CsrGraph.fromEdges(n, src, dst, w, size, graph.hasReverse(), present);
+    }
+
+    /**
+     * Repaired copy of tree (computed on the graph before the updates) that is correct for updatedGraph.
+     * tree itself is never modified: it may be shared, e.g. handed out by a ShortestPathCache.
+     */
+    public static ShortestPathTree repair(CsrGraph updatedGraph, ShortestPathTree tree, List<EdgeUpdate> updates) {
+        int n = updatedGraph.vertexCount();
+        int old = tree.distances().length;
+        long[] dist = Arrays.copyOf(tree.distances(), Math.max(n, old));
+        int[] pred = Arrays.copyOf(tree.predecessors(), Math.max(n, old));
+        if (old < n) {
+            Arrays.fill(dist, old, n, ShortestPathTree.UNREACHABLE);
+            Arrays.fill(pred, old, n, -1);
+        }
+
+        DaryHeap heap = new DaryHeap(n, 4);
+
+        // Seed with every updated edge that improves its head
+        for (EdgeUpdate u : updates) {
+            if (dist[u.from] == ShortestPathTree.UNREACHABLE) continue;
+            long nd = dist[u.from] + u.weight;
+            if (nd < dist[u.to]) {
+                dist[u.to] = nd;
+                pred[u.to] = u.from;
+                heap.insertOrDecrease(u.to, nd);
+            }
+        }
+
+        int[] offsets = updatedGraph.offsets();
+        int[] targets = updatedGraph.targets();
+        int[] weights = updatedGraph.weights();
+
+        // Dijkstra restricted to the improved region
+        while (!heap.isEmpty()) {
+            int v = heap.pollMin();
+            long dv = dist[v];
+            for (int e = offsets[v]; e < offsets[v + 1]; e++) {
+                int t = targets[e];
+                long nd = dv + weights[e];
+                if (nd < dist[t]) {
+                    dist[t] = nd;
+                    pred[t] = v;
+                    heap.insertOrDecrease(t, nd);
+                }
+            }
+        }
+        return new ShortestPathTree(tree.source(), dist, pred);
+    }
+}
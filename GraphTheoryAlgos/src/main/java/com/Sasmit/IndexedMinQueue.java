@@ -0,0 +1,27 @@
+package com.Sasmit;
+
+/**
+ * Min-priority queue over vertex ids 0..capacity-1 with decrease-key.
+ * Implementations preallocate everything up front, so a Dijkstra run does no allocation
+ * per relaxation, and clear() makes the queue reusable for the next run.
+ * Keys must be non-negative and, for the monotone queues (radix heap, Dial buckets),
+ * never smaller than the key last returned by pollMin().
+ */
+public interface IndexedMinQueue {
+
+    boolean isEmpty();
+
+    boolean contains(int vertex);
+
+    /** Insert vertex with key, or lower its key if it is already queued. */
+    void insertOrDecrease(int vertex, long key);
+
+    /** Remove and return the vertex with the smallest key. */
+    int pollMin();
+
+    /** Empty the queue, keeping the allocated arrays. */
+    void clear();
+
+    /** Largest vertex id + 1 this queue can hold. */
+    int capacity();
+}
@@ -0,0 +1,87 @@
+package com.Sasmit;
+
+import java.util.*;
+
+/**
+ * Maps sparse int ids to dense indices 0..size-1 in the order they are first added.
+ * Open addressing with linear probing over primitive arrays, so lookups never box.
+ */
+public class IntIdMap {
+    private static final int EMPTY = -1;
+
+    private int[] keys;
+    private int[] slots;  // dense index per hash slot, EMPTY when free
+    private int[] ids;    // dense index -> id
+    private int size;
+    private int mask;
+
+    public IntIdMap(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(4, expectedSize * 2 - 1)) << 1;
+        keys = new int[capacity];
+        slots = new int[capacity];
+        Arrays.fill(slots, EMPTY);
+        ids = new int[Math.max(4, expectedSize)];
+        mask = capacity - 1;
+    }
+
+    /** Dense index of id, adding it if it is new. */
+    public int add(int id) {
+        int slot = slotOf(id);
+        if (slots[slot] != EMPTY) return slots[slot];
+
+        if (size == ids.length) ids = Arrays.copyOf(ids, size * 2);
+        ids[size] = id;
+        keys[slot] = id;
+        slots[slot] = size;
+        size++;
+        if (size * 2 > keys.length) grow();
+        return size - 1;
+    }
+
+    /** Dense index of id, or -1 if it was never added. */
+    public int indexOf(int id) {
+        return slots[slotOf(id)];
+    }
+
+    public boolean contains(int id) {
+        return indexOf(id) != EMPTY;
+    }
+
+    public int idOf(int index) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException("index " + index);
+        return ids[index];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // Slot holding id, or the free slot where it would go
+    private int slotOf(int id) {
+        int slot = mix(id) & mask;
+        while (slots[slot] != EMPTY && keys[slot] != id) slot = (slot + 1) & mask;
+        return slot;
+    }
+
+    private void grow() {
+        int capacity = keys.length * 2;
+        keys = new int[capacity];
+        slots = new int[capacity];
+        Arrays.fill(slots, EMPTY);
+        mask = capacity - 1;
+        for (int i = 0; i < size; i++) {
+            int slot = slotOf(ids[i]);
+            keys[slot] = ids[i];
+            slots[slot] = i;
+        }
+    }
+
+    // Spread nearby ids (e.g. codes one bit apart) across the table
+    private static int mix(int x) {
+        x ^= x >>> 16;
+        x *= 0x85EBCA6B;
+        x ^= x >>> 13;
+        x *= 0xC2B2AE35;
+        return x ^ (x >>> 16);
+    }
+}
@@ -0,0 +1,222 @@
+package com.Sasmit;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Array-based Karger contraction.
+ * The graph is flattened once into an immutable undirected edge array shared by all trials.
+ * A trial contracts edges in a random order with a union-find until two super-vertices are left
+ * (the edge order is drawn lazily with a partial Fisher-Yates shuffle, so a trial only draws random
+ * numbers for the edges it actually looks at), then counts the edges crossing between them.
+ * Trials run in parallel, each worker with its own RNG and scratch arrays, and stop once the
+ * chance that every trial missed the minimum cut is below the requested failure probability.
+ */
+public class KargerContraction {
+    private final CsrGraph graph;    // the graph the edge arrays were built from
+    private final int vertexCount;   // size of the id space
+    private final int presentCount;  // real vertices
+    private final int[] edgeU;
+    private final int[] edgeV;
+
+    public static class Result {
+        public final int minCut;
+        public final long trials;
+        public final long elapsedNanos;
+
+        Result(int minCut, long trials, long elapsedNanos) {
+            this.minCut = minCut;
+            this.trials = trials;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        @Override
+        public String toString() {
+            return "min cut " + minCut + " after " + trials + " trials in " + elapsedNanos / 1_000_000 + " ms";
+        }
+    }
+
+    /**
+     * graph lists every undirected edge from both ends (the kargerMinCut file format);
+     * each edge is kept once, parallel edges are kept, self-loops are dropped.
+     */
+    public KargerContraction(CsrGraph graph) {
+        int[] offsets = graph.offsets();
+        int[] targets = graph.targets();
+        int n = graph.vertexCount();
+
+        int m = 0;
+        for (int u = 0; u < n; u++) {
+            for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                if (u < targets[e]) m++;
+            }
+        }
+        edgeU = new int[m];
+        edgeV = new int[m];
+        int k = 0;
+        for (int u = 0; u < n; u++) {
+            for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                if (u < targets[e]) {
+                    edgeU[k] = u;
+                    edgeV[k] = targets[e];
+                    k++;
+                }
+            }
+        }
+
+        this.graph = graph;
+        this.vertexCount = n;
+        this.presentCount = graph.presentCount();
+    }
+
+    public int edgeCount() {
+        return edgeU.length;
+    }
+
+    /**
+     * The shared undirected edge list with vertices renumbered 0..presentCount-1, as
+     * {u[], v[]}. Used by the other min-cut modes, which want a dense id space.
+     */
+    int[][] compactEdges() {
+        int[] id = new int[vertexCount];
+        int next = 0;
+        for (int v = 0; v < vertexCount; v++) {
+            id[v] = graph.isPresent(v) ? next++ : -1;
+        }
+        int[] u = new int[edgeU.length];
+        int[] w = new int[edgeU.length];
+        for (int e = 0; e < edgeU.length; e++) {
+            u[e] = id[edgeU[e]];
+            w[e] = id[edgeV[e]];
+        }
+        return new int[][]{u, w};
+    }
+
+    public int presentCount() {
+        return presentCount;
+    }
+
+    /**
+     * Number of trials after which the probability that none found a minimum cut is at most
+     * failureProbability, using Karger's per-trial success bound 2 / (n (n - 1)).
+     */
+    public long trialsFor(double failureProbability) {
+        if (failureProbability <= 0 || failureProbability >= 1) {
+            throw new IllegalArgumentException("failureProbability must be in (0, 1)");
+        }
+        double n = presentCount;
+        double trials = Math.ceil(Math.log(1 / failureProbability) * n * (n - 1) / 2);
+        return (long) Math.max(1, Math.min(trials, Long.MAX_VALUE / 2));
+    }
+
+    /**
+     * Run trials on threads workers until the success bound for failureProbability is reached
+     * (or maxTrials, whichever comes first) and return the smallest cut seen.
+     */
+    public Result run(double failureProbability, int threads, long maxTrials) {
+        long start = System.nanoTime();
+        if (presentCount < 2) return new Result(0, 0, 0);
+
+        long target = Math.min(trialsFor(failureProbability), maxTrials);
+        AtomicLong started = new AtomicLong();
+        AtomicInteger best = new AtomicInteger(Integer.MAX_VALUE);
+        long baseSeed = System.nanoTime();
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> workers = new ArrayList<>(threads);
+            for (int t = 0; t < threads; t++) {
+                long seed = baseSeed + 0x9E3779B97F4A7C15L * (t + 1);
+                workers.add(pool.submit(() -> {
+                    Worker worker = new Worker(seed);
+                    while (started.getAndIncrement() < target) {
+                        int cut = worker.trial();
+                        best.accumulateAndGet(cut, Math::min);
+                        if (cut == 0) break; // can't do better than a disconnected graph
+                    }
+                }));
+            }
+            for (Future<?> worker : workers) worker.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while running Karger trials", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Karger trial failed", e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+
+        return new Result(best.get(), Math.min(started.get(), target), System.nanoTime() - start);
+    }
+
+    /** A single contraction trial with the given RNG. */
+    public int trial(Random rand) {
+        return new Worker(rand.nextLong()).trial();
+    }
+
+    // Per-thread RNG and scratch arrays, reused across trials
+    private class Worker {
+        final SplittableRandom rand;
+        final int[] parent = new int[vertexCount];
+        final int[] size = new int[vertexCount];
+        final int[] order = new int[edgeU.length];
+
+        Worker(long seed) {
+            rand = new SplittableRandom(seed);
+            for (int i = 0; i < order.length; i++) order[i] = i;
+        }
+
+        int trial() {
+            for (int v = 0; v < vertexCount; v++) {
+                parent[v] = v;
+                size[v] = 1;
+            }
+            // order still holds the previous trial's permutation, which is as good a start as any
+            int m = order.length;
+
+            int components = presentCount;
+            for (int i = 0; i < m && components > 2; i++) {
+                // lazily draw the next edge of a uniformly random permutation
+                int j = i + rand.nextInt(m - i);
+                int e = order[j];
+                order[j] = order[i];
+                order[i] = e;
+
+                if (union(edgeU[e], edgeV[e])) components--;
+            }
+
+            // More than two pieces left means the graph is disconnected
+            if (components > 2) return 0;
+
+            int cut = 0;
+            for (int e = 0; e < m; e++) {
+                if (find(edgeU[e]) != find(edgeV[e])) cut++;
+            }
+            return cut;
+        }
+
+        int find(int v) {
+            while (parent[v] != v) {
+                parent[v] = parent[parent[v]]; // path halving
+                v = parent[v];
+            }
+            return v;
+        }
+
+        boolean union(int a, int b) {
+            int ra = find(a);
+            int rb = find(b);
+            if (ra == rb) return false;
+            if (size[ra] < size[rb]) {
+                int tmp = ra;
+                ra = rb;
+                rb = tmp;
+            }
+            parent[rb] = ra;
+            size[ra] += size[rb];
+            return true;
+        }
+    }
+}
@@ -4,33 +4,58 @@ import java.io.*;
 import java.util.*;
 
 public class KargerMinCutter {
-    private Map<Integer, List<Integer>> graph;
-    private int totalEdges;
+    private final CsrGraph graph;
+    private final int totalEdges;
+    private KargerContraction contraction; // built on first parallel run
+
+    public enum Mode {
+        /** Repeated plain contraction (parallel trials) */
+        KARGER,
+        /** Recursive contraction, far fewer repetitions */
+        KARGER_STEIN,
+        /** Deterministic, exact */
+        STOER_WAGNER
+    }
 
     public KargerMinCutter(String filename) throws IOException {
-        graph = new HashMap<>();
-        totalEdges = 0;
-        BufferedReader br = new BufferedReader(new FileReader(filename));
-        String line;
-        while ((line = br.readLine()) != null) {
-            String[] tokens = line.trim().split("\\s+");
-            int node = Integer.parseInt(tokens[0]);
-            List<Integer> neighbors = new ArrayList<>();
-            for (int i = 1; i < tokens.length; i++) {
-                neighbors.add(Integer.parseInt(tokens[i]));
+        this(readAdjacency(filename));
+    }
+
+    // Adapter for callers that still build the old map representation
+    public KargerMinCutter(Map<Integer, List<Integer>> graph) {
+        this(CsrGraph.fromAdjacency(graph, false));
+    }
+
+    public KargerMinCutter(CsrGraph graph) {
+        this.graph = graph;
+        this.totalEdges = graph.edgeCount();
+    }
+
+    // Each line is "node neighbor neighbor ..." (every undirected edge is listed from both ends)
+    static CsrGraph readAdjacency(String filename) throws IOException {
+        CsrGraph.Builder builder = new CsrGraph.Builder(false);
+        try (BufferedReader br = new BufferedReader(new FileReader(filename))) {
+            String line;
+            while ((line = br.readLine()) != null) {
+                String[] tokens = line.trim().split("\\s+");
+                if (tokens[0].isEmpty()) continue;
+                int node = Integer.parseInt(tokens[0]);
+                builder.addVertex(node);
+                for (int i = 1; i < tokens.length; i++) {
+                    builder.addEdge(node, Integer.parseInt(tokens[i]));
+                }
             }
-            graph.put(node, neighbors);
-            totalEdges += neighbors.size();
         }
-        br.close();
+        return builder.build(false);
+    }
+
+    public CsrGraph getGraph() {
+        return graph;
     }
 
     public int findMinCut() {
-        // Make a deep copy so we can reuse the original graph
-        Map<Integer, List<Integer>> localGraph = new HashMap<>();
-        for (Map.Entry<Integer, List<Integer>> entry : graph.entrySet()) {
-            localGraph.put(entry.getKey(), new ArrayList<>(entry.getValue()));
-        }
+        // Expand the shared CSR into a mutable copy for this trial
+        Map<Integer, List<Integer>> localGraph = graph.toAdjacency();
         int localTotalEdges = totalEdges;
 
         Random rand = new Random();
@@ -83,19 +108,50 @@ public class KargerMinCutter {
         return -1;
     }
 
-    public static void main(String[] args) throws IOException {
-        int minCut = Integer.MAX_VALUE;
-        int trials = 5000;
-
-        for (int i = 0; i < trials; i++) {
-            KargerMinCutter cutter = new KargerMinCutter("");
-            int cut = cutter.findMinCut();
-            if (cut < minCut) {
-                minCut = cut;
+    /**
+     * Repeated contraction on the shared edge array (see KargerContraction), in parallel on
+     * threads workers, until the min cut is found with probability at least 1 - failureProbability.
+     */
+    public KargerContraction.Result findMinCutParallel(double failureProbability, int threads) {
+        return findMinCutParallel(failureProbability, threads, Long.MAX_VALUE);
+    }
+
+    public KargerContraction.Result findMinCutParallel(double failureProbability, int threads, long maxTrials) {
+        if (contraction == null) contraction = new KargerContraction(graph);
+        return contraction.run(failureProbability, threads, maxTrials);
+    }
+
+    /**
+     * Min cut with the chosen algorithm. failureProbability bounds the chance that the randomized
+     * modes miss the minimum (ignored by STOER_WAGNER).
+     */
+    public int findMinCut(Mode mode, double failureProbability) {
+        if (contraction == null) contraction = new KargerContraction(graph);
+        switch (mode) {
+            case KARGER:
+                return findMinCutParallel(failureProbability, Runtime.getRuntime().availableProcessors()).minCut;
+            case KARGER_STEIN: {
+                int[][] edges = contraction.compactEdges();
+                return new KargerStein(contraction.presentCount(), edges[0], edges[1])
+                        .minCut(failureProbability, new Random());
             }
-            System.out.println("Trial " + (i + 1) + ": Min Cut = " + minCut);
+            case STOER_WAGNER: {
+                int[][] edges = contraction.compactEdges();
+                return new StoerWagner(contraction.presentCount(), edges[0], edges[1]).minCut();
+            }
+            default:
+                throw new IllegalArgumentException("Unknown mode " + mode);
         }
+    }
+
+    public static void main(String[] args) throws IOException {
+        String file = args.length > 0 ? args[0] : "/Users/sasmitmunagala/Desktop/Sasmit_Algos/GraphTheoryAlgos/src/main/java/com/Sasmit/adjacencyList";
+
+        // Load once; every trial shares the same edge array
+        KargerMinCutter cutter = new KargerMinCutter(file);
+        KargerContraction.Result result = cutter.findMinCutParallel(1e-3, Runtime.getRuntime().availableProcessors());
 
-        System.out.println("Final Min Cut: " + minCut);
+        System.out.println("Final Min Cut: " + result.minCut + " (" + result.trials + " trials, "
+                + result.elapsedNanos / 1_000_000 + " ms)");
     }
 }
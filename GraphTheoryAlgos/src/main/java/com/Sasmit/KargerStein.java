@@ -0,0 +1,197 @@
+package com.Sasmit;
+
+import java.util.*;
+
+/**
+ * Karger-Stein recursive contraction.
+ * Contract the graph down to about n / sqrt(2) vertices twice independently, recurse on both,
+ * and keep the smaller cut; graphs of at most 6 vertices are solved exactly by trying every
+ * bipartition. One run succeeds with probability about 1 / log n, so far fewer repetitions are
+ * needed than for plain Karger.
+ *
+ * Parallel edges are merged into weighted edges after every contraction, so a subproblem with
+ * k vertices never carries more than k(k-1)/2 edges. Contracting a random multi-edge is the same
+ * as contracting weighted edges in order of Exp(weight) keys (the first of w parallel copies
+ * in a random order is the minimum of w exponentials), so each contraction is a sort plus a
+ * union-find pass over flat int arrays.
+ */
+public class KargerStein {
+    private static final int BASE_CASE = 6;
+
+    private final int n;
+    private final int[] edgeU;
+    private final int[] edgeV;
+    private final int[] edgeW;
+
+    /** n vertices numbered 0..n-1, undirected edges u[i] - v[i] (parallel edges allowed). */
+    public KargerStein(int n, int[] u, int[] v) {
+        if (u.length != v.length) throw new IllegalArgumentException("Edge arrays differ in length");
+        this.n = n;
+
+        int[] ones = new int[u.length];
+        Arrays.fill(ones, 1);
+        int[][] merged = mergeParallel(n, u, v, ones, u.length);
+        this.edgeU = merged[0];
+        this.edgeV = merged[1];
+        this.edgeW = merged[2];
+    }
+
+    /**
+     * Number of independent runs for a failure probability of at most failureProbability,
+     * assuming the usual success bound of 1 / (log2 n + 1) per run.
+     */
+    public int runsFor(double failureProbability) {
+        if (failureProbability <= 0 || failureProbability >= 1) {
+            throw new IllegalArgumentException("failureProbability must be in (0, 1)");
+        }
+        double perRun = 1.0 / (Math.log(Math.max(2, n)) / Math.log(2) + 1);
+        return (int) Math.ceil(Math.log(failureProbability) / Math.log(1 - perRun));
+    }
+
+    public int minCut(double failureProbability, Random rand) {
+        int best = Integer.MAX_VALUE;
+        int runs = runsFor(failureProbability);
+        for (int i = 0; i < runs && best > 0; i++) {
+            best = Math.min(best, run(rand));
+        }
+        return best;
+    }
+
+    /** One recursive Karger-Stein run. */
+    public int run(Random rand) {
+        if (n < 2) return 0;
+        return recurse(n, edgeU, edgeV, edgeW, rand);
+    }
+
+    private static int recurse(int n, int[] u, int[] v, int[] w, Random rand) {
+        if (n <= BASE_CASE) return exactMinCut(n, u, v, w);
+
+        int target = (int) Math.ceil(1 + n / Math.sqrt(2));
+        int best = Integer.MAX_VALUE;
+        for (int branch = 0; branch < 2 && best > 0; branch++) {
+            int[] label = contract(n, u, v, w, target, rand);
+            int k = label[n];
+            // ran out of edges before reaching target: the graph is disconnected
+            if (k > target) return 0;
+
+            int[] cu = new int[u.length];
+            int[] cv = new int[u.length];
+            int[] cw = new int[u.length];
+            int m = 0;
+            for (int e = 0; e < u.length; e++) {
+                int a = label[u[e]];
+                int b = label[v[e]];
+                if (a != b) {
+                    cu[m] = a;
+                    cv[m] = b;
+                    cw[m] = w[e];
+                    m++;
+                }
+            }
+            int[][] merged = mergeParallel(k, cu, cv, cw, m);
+            best = Math.min(best, recurse(k, merged[0], merged[1], merged[2], rand));
+        }
+        return best;
+    }
+
+    /**
+     * Contract edges in Exp(weight) key order until target super-vertices remain.
+     * Returns label[0..n-1] = super-vertex of each vertex (0..k-1), with k stored in label[n].
+     */
+    private static int[] contract(int n, int[] u, int[] v, int[] w, int target, Random rand) {
+        int m = u.length;
+        // float key bits in the high half, edge index in the low half: one primitive sort
+        long[] order = new long[m];
+        for (int e = 0; e < m; e++) {
+            float key = (float) (-Math.log(1 - rand.nextDouble()) / w[e]);
+            order[e] = ((long) Float.floatToIntBits(key) << 32) | e;
+        }
+        Arrays.sort(order);
+
+        int[] parent = new int[n];
+        for (int i = 0; i < n; i++) parent[i] = i;
+        int components = n;
+        for (int i = 0; i < m && components > target; i++) {
+            int e = (int) order[i];
+            int ra = find(parent, u[e]);
+            int rb = find(parent, v[e]);
+            if (ra != rb) {
+                parent[rb] = ra;
+                components--;
+            }
+        }
+
+        int[] label = new int[n + 1];
+        int[] rootLabel = new int[n];
+        Arrays.fill(rootLabel, -1);
+        int k = 0;
+        for (int i = 0; i < n; i++) {
+            int r = find(parent, i);
+            if (rootLabel[r] < 0) rootLabel[r] = k++;
+            label[i] = rootLabel[r];
+        }
+        label[n] = k;
+        return label;
+    }
+
+    // Sum the weights of edges joining the same pair and drop self-loops: bucket the edges by
+    // their smaller endpoint, then merge each bucket with a last-seen slot per larger endpoint
+    private static int[][] mergeParallel(int n, int[] u, int[] v, int[] w, int m) {
+        int[] start = new int[n + 1];
+        for (int e = 0; e < m; e++) {
+            if (u[e] != v[e]) start[Math.min(u[e], v[e]) + 1]++;
+        }
+        for (int i = 0; i < n; i++) start[i + 1] += start[i];
+        int[] byLow = new int[start[n]];
+        int[] cursor = Arrays.copyOf(start, n);
+        for (int e = 0; e < m; e++) {
+            if (u[e] != v[e]) byLow[cursor[Math.min(u[e], v[e])]++] = e;
+        }
+
+        int[] slot = new int[n];
+        Arrays.fill(slot, -1);
+        int[] ou = new int[byLow.length];
+        int[] ov = new int[byLow.length];
+        int[] ow = new int[byLow.length];
+        int k = 0;
+        for (int a = 0; a < n; a++) {
+            int first = k;
+            for (int i = start[a]; i < start[a + 1]; i++) {
+                int e = byLow[i];
+                int b = Math.max(u[e], v[e]);
+                if (slot[b] < first) {
+                    slot[b] = k;
+                    ou[k] = a;
+                    ov[k] = b;
+                    ow[k] = 0;
+                    k++;
+                }
+                ow[slot[b]] += w[e];
+            }
+        }
+        return new int[][]{Arrays.copyOf(ou, k), Arrays.copyOf(ov, k), Arrays.copyOf(ow, k)};
+    }
+
+    private static int find(int[] parent, int x) {
+        while (parent[x] != x) {
+            parent[x] = parent[parent[x]];
+            x = parent[x];
+        }
+        return x;
+    }
+
+    // Try every bipartition with vertex 0 fixed on one side
+    private static int exactMinCut(int n, int[] u, int[] v, int[] w) {
+        if (n < 2) return 0;
+        int best = Integer.MAX_VALUE;
+        for (int mask = 1; mask < (1 << (n - 1)); mask++) {
+            int side = mask << 1; // bit i set = vertex i on the far side; vertex 0 stays put
+            int cut = 0;
+            for (int e = 0; e < u.length; e++) {
+                if ((((side >> u[e]) ^ (side >> v[e])) & 1) != 0) cut += w[e];
+            }
+            best = Math.min(best, cut);
+        }
+        return best;
+    }
+}
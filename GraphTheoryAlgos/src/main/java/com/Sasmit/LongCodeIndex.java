@@ -0,0 +1,62 @@
+package com.Sasmit;
+
+import java.util.*;
+
+/**
+ * Distinct codes (up to 64 bits) in sorted order, plus an open-addressing table for
+ * O(1) code -> index lookups. Every 64-bit value is a valid code, so the table stores
+ * index + 1 (0 = empty) and compares against the sorted array instead of keeping keys twice.
+ * Read-only after construction, so any number of threads can probe it.
+ */
+public class LongCodeIndex {
+    private final long[] codes;
+    private final int[] table;
+    private final int mask;
+
+    /** Sorts and dedupes a copy of rawCodes (count of them). */
+    public LongCodeIndex(long[] rawCodes, int count) {
+        long[] sorted = Arrays.copyOf(rawCodes, count);
+        Arrays.parallelSort(sorted);
+        int distinct = 0;
+        for (int i = 0; i < count; i++) {
+            if (i == 0 || sorted[i] != sorted[i - 1]) sorted[distinct++] = sorted[i];
+        }
+        codes = distinct == count ? sorted : Arrays.copyOf(sorted, distinct);
+
+        int capacity = Integer.highestOneBit(Math.max(4, distinct * 2 - 1)) << 1;
+        table = new int[capacity];
+        mask = capacity - 1;
+        for (int i = 0; i < distinct; i++) {
+            int slot = mix(codes[i]) & mask;
+            while (table[slot] != 0) slot = (slot + 1) & mask;
+            table[slot] = i + 1;
+        }
+    }
+
+    /** Position of code in the sorted distinct codes, or -1 if absent. */
+    public int indexOf(long code) {
+        int slot = mix(code) & mask;
+        int entry;
+        while ((entry = table[slot]) != 0) {
+            if (codes[entry - 1] == code) return entry - 1;
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    public long code(int index) {
+        return codes[index];
+    }
+
+    public int size() {
+        return codes.length;
+    }
+
+    // Spread codes that differ in a few bits across the table
+    private static int mix(long x) {
+        x ^= x >>> 33;
+        x *= 0xFF51AFD7ED558CCDL;
+        x ^= x >>> 33;
+        return (int) x;
+    }
+}
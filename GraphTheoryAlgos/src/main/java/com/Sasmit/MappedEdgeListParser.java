@@ -0,0 +1,227 @@
+package com.Sasmit;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Parses a "from to" edge list (one edge per line, extra columns ignored) by memory-mapping
+ * the file, cutting it into newline-aligned chunks and parsing every chunk on its own thread
+ * straight from the mapped bytes into int arrays.
+ */
+public class MappedEdgeListParser {
+    // A single mapping can't exceed 2GB, so big files get at least one chunk per GB
+    private static final long MAX_CHUNK_BYTES = 1L << 30;
+
+    private final int threads;
+
+    public MappedEdgeListParser() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    public MappedEdgeListParser(int threads) {
+        if (threads < 1) throw new IllegalArgumentException("threads must be >= 1");
+        this.threads = threads;
+    }
+
+    /**
+     * Result of a parse: edges are src[i] -> dst[i] for i < edgeCount, in file order.
+     */
+    public static class ParsedEdges {
+        public final int[] src;
+        public final int[] dst;
+        public final int edgeCount;
+        public final int maxVertex;
+        public final long bytes;
+        public final long parseNanos;
+
+        ParsedEdges(int[] src, int[] dst, int edgeCount, int maxVertex, long bytes, long parseNanos) {
+            this.src = src;
+            this.dst = dst;
+            this.edgeCount = edgeCount;
+            this.maxVertex = maxVertex;
+            this.bytes = bytes;
+            this.parseNanos = parseNanos;
+        }
+
+        public double mbPerSecond() {
+            if (parseNanos == 0) return 0;
+            return (bytes / (1024.0 * 1024.0)) / (parseNanos / 1e9);
+        }
+
+        public CsrGraph toGraph(boolean withReverse) {
+            return CsrGraph.fromEdges(maxVertex + 1, src, dst, null, edgeCount, withReverse);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d edges, %.1f MB in %.1f ms (%.1f MB/s)",
+                    edgeCount, bytes / (1024.0 * 1024.0), parseNanos / 1e6, mbPerSecond());
+        }
+    }
+
+    // Edges parsed from one chunk
+    private static class Chunk {
+        int[] src;
+        int[] dst;
+        int count;
+        int maxVertex = -1;
+
+        Chunk(int capacity) {
+            src = new int[capacity];
+            dst = new int[capacity];
+        }
+
+        void add(int from, int to) {
+            if (count == src.length) {
+                int cap = Math.max(16, count * 2);
+                src = Arrays.copyOf(src, cap);
+                dst = Arrays.copyOf(dst, cap);
+            }
+            src[count] = from;
+            dst[count] = to;
+            count++;
+            if (from > maxVertex) maxVertex = from;
+            if (to > maxVertex) maxVertex = to;
+        }
+    }
+
+    public ParsedEdges parse(String inputFile) throws IOException {
+        long start = System.nanoTime();
+
+        try (FileChannel channel = FileChannel.open(Paths.get(inputFile), StandardOpenOption.READ)) {
+            long size = channel.size();
+            long[] bounds = chunkBounds(channel, size);
+            int chunks = bounds.length - 1;
+
+            ExecutorService pool = Executors.newFixedThreadPool(Math.min(threads, Math.max(1, chunks)));
+            try {
+                List<Future<Chunk>> futures = new ArrayList<>();
+                for (int i = 0; i < chunks; i++) {
+                    long from = bounds[i];
+                    long to = bounds[i + 1];
+                    futures.add(pool.submit(() -> parseChunk(channel, from, to)));
+                }
+
+                List<Chunk> parsed = new ArrayList<>(chunks);
+                long total = 0;
+                for (Future<Chunk> future : futures) {
+                    Chunk chunk = future.get();
+                    parsed.add(chunk);
+                    total += chunk.count;
+                }
+                if (total > Integer.MAX_VALUE - 8) {
+                    throw new IllegalStateException("Too many edges for int-indexed arrays: " + total);
+                }
+
+                // Stitch the chunks back together in file order
+                int[] src = new int[(int) total];
+                int[] dst = new int[(int) total];
+                int pos = 0;
+                int maxVertex = -1;
+                for (Chunk chunk : parsed) {
+                    System.arraycopy(chunk.src, 0, src, pos, chunk.count);
+                    System.arraycopy(chunk.dst, 0, dst, pos, chunk.count);
+                    pos += chunk.count;
+                    maxVertex = Math.max(maxVertex, chunk.maxVertex);
+                }
+
+                return new ParsedEdges(src, dst, pos, maxVertex, size, System.nanoTime() - start);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while parsing " + inputFile, e);
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof IOException) throw (IOException) cause;
+                if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+                throw new IOException("Failed to parse " + inputFile, cause);
+            } finally {
+                pool.shutdownNow();
+            }
+        }
+    }
+
+    /**
+     * Split [0, size) into roughly equal ranges, moving each cut just past the next '\n'
+     * so that no line is shared between two chunks.
+     */
+    private long[] chunkBounds(FileChannel channel, long size) throws IOException {
+        int chunks = (int) Math.max(threads, (size + MAX_CHUNK_BYTES - 1) / MAX_CHUNK_BYTES);
+        if (size < 64L * 1024) chunks = 1; // not worth splitting
+
+        long[] bounds = new long[chunks + 1];
+        ByteBuffer probe = ByteBuffer.allocate(4096);
+        int k = 1;
+        for (int i = 1; i < chunks; i++) {
+            long cut = Math.max(size * i / chunks, bounds[k - 1]);
+            cut = nextLineStart(channel, cut, size, probe);
+            if (cut > bounds[k - 1] && cut < size) bounds[k++] = cut;
+        }
+        bounds[k++] = size;
+        return Arrays.copyOf(bounds, k);
+    }
+
+    private static long nextLineStart(FileChannel channel, long pos, long size, ByteBuffer probe) throws IOException {
+        while (pos < size) {
+            probe.clear();
+            int read = channel.read(probe, pos);
+            if (read <= 0) return size;
+            for (int i = 0; i < read; i++) {
+                if (probe.get(i) == '\n') return pos + i + 1;
+            }
+            pos += read;
+        }
+        return size;
+    }
+
+    private static Chunk parseChunk(FileChannel channel, long from, long to) throws IOException {
+        MappedByteBuffer buf = channel.map(FileChannel.MapMode.READ_ONLY, from, to - from);
+        int limit = buf.limit();
+        Chunk chunk = new Chunk(Math.max(16, limit / 12));
+
+        int i = 0;
+        while (i < limit) {
+            // one line: read up to two ints, ignore the rest
+            int fromV = -1, toV = -1;
+            int tokens = 0;
+            while (i < limit) {
+                byte b = buf.get(i);
+                if (b == '\n') {
+                    i++;
+                    break;
+                }
+                if (b == ' ' || b == '\t' || b == '\r') {
+                    i++;
+                    continue;
+                }
+                if (b < '0' || b > '9') {
+                    throw new NumberFormatException("Unexpected byte '" + (char) b + "' at offset " + (from + i));
+                }
+
+                int value = 0;
+                while (i < limit) {
+                    b = buf.get(i);
+                    if (b < '0' || b > '9') break;
+                    value = value * 10 + (b - '0');
+                    i++;
+                }
+                if (tokens == 0) fromV = value;
+                else if (tokens == 1) toV = value;
+                tokens++;
+            }
+            if (tokens >= 2) chunk.add(fromV, toV);
+        }
+        return chunk;
+    }
+
+    public static void main(String[] args) throws IOException {
+        String file = args.length > 0 ? args[0] : "/Users/sasmitmunagala/Desktop/Sasmit_Algos/GraphTheoryAlgos/src/main/java/com/Sasmit/assignment4";
+        ParsedEdges edges = new MappedEdgeListParser().parse(file);
+        System.out.println("Parsed " + edges);
+    }
+}
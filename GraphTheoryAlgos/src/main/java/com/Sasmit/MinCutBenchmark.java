@@ -0,0 +1,90 @@
+package com.Sasmit;
+
+import java.util.*;
+
+/**
+ * Time-to-correct-answer for the min-cut modes on generated graphs with a planted cut:
+ * two dense random halves joined by exactly `planted` edges, so the minimum cut is known.
+ */
+public class MinCutBenchmark {
+
+    public static void main(String[] args) {
+        int[] sizes = {50, 100, 200};
+        int planted = 5;
+        int threads = Runtime.getRuntime().availableProcessors();
+
+        for (int n : sizes) {
+            CsrGraph graph = plantedCutGraph(n, 0.5, planted, n);
+            KargerContraction contraction = new KargerContraction(graph);
+            int[][] edges = contraction.compactEdges();
+            System.out.println("n=" + n + ", m=" + contraction.edgeCount() + ", planted cut=" + planted);
+
+            // Stoer-Wagner: one deterministic run, also the reference answer for the others
+            long start = System.nanoTime();
+            int exact = new StoerWagner(n, edges[0], edges[1]).minCut();
+            report("Stoer-Wagner", start, exact == planted ? "exact" : "min cut " + exact + " (below the planted cut)");
+
+            // Karger: trials until one finds the minimum cut
+            Random rand = new Random(1);
+            start = System.nanoTime();
+            long trials = 0;
+            int cut;
+            do {
+                cut = contraction.trial(rand);
+                trials++;
+            } while (cut > exact);
+            report("Karger", start, trials + " trials");
+
+            // Karger-Stein: runs until one finds the minimum cut
+            KargerStein kargerStein = new KargerStein(n, edges[0], edges[1]);
+            start = System.nanoTime();
+            long runs = 0;
+            do {
+                cut = kargerStein.run(rand);
+                runs++;
+            } while (cut > exact);
+            report("Karger-Stein", start, runs + " runs");
+
+            // Both randomized modes with the full p = 1e-3 guarantee, which is what a caller pays
+            KargerContraction.Result result = contraction.run(1e-3, threads, Long.MAX_VALUE);
+            System.out.printf("  %-28s %s%n", "Karger (p=1e-3, " + threads + " threads)", result);
+
+            start = System.nanoTime();
+            cut = kargerStein.minCut(1e-3, rand);
+            report("Karger-Stein (p=1e-3)", start, "min cut " + cut + " in " + kargerStein.runsFor(1e-3) + " runs");
+        }
+    }
+
+    private static void report(String name, long start, String detail) {
+        System.out.printf("  %-28s %8.1f ms  %s%n", name, (System.nanoTime() - start) / 1e6, detail);
+    }
+
+    /**
+     * Vertices 1..n in the kargerMinCut layout (each edge listed from both ends); halves are
+     * G(n/2, p) with a spanning cycle each, joined by `planted` edges between distinct vertices.
+     */
+    static CsrGraph plantedCutGraph(int n, double p, int planted, long seed) {
+        Random rand = new Random(seed);
+        CsrGraph.Builder builder = new CsrGraph.Builder(false);
+        int half = n / 2;
+        for (int side = 0; side < 2; side++) {
+            int base = 1 + side * half;
+            int size = side == 0 ? half : n - half;
+            for (int i = 0; i < size; i++) {
+                for (int j = i + 1; j < size; j++) {
+                    if (j == i + 1 || (i == 0 && j == size - 1) || rand.nextDouble() < p) {
+                        builder.addEdge(base + i, base + j);
+                        builder.addEdge(base + j, base + i);
+                    }
+                }
+            }
+        }
+        for (int k = 0; k < planted; k++) {
+            int a = 1 + k % half;
+            int b = 1 + half + (k * 7) % (n - half);
+            builder.addEdge(a, b);
+            builder.addEdge(b, a);
+        }
+        return builder.build(false);
+    }
+}
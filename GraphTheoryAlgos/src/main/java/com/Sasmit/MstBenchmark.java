@@ -0,0 +1,64 @@
+package com.Sasmit;
+
+import java.io.*;
+import java.util.*;
+
+/**
+ * Thread-scaling benchmark for ParallelBoruvkaMst against the sequential heap-based PrimMST.mst.
+ * Usage: MstBenchmark [edge file in the PrimMST format] ; without a file a random graph is generated.
+ */
+public class MstBenchmark {
+
+    public static void main(String[] args) throws IOException {
+        CsrGraph graph = args.length > 0
+                ? PrimMST.loadGraphCsr(args[0])
+                : randomConnectedGraph(1_000_000, 8_000_000, 11);
+        int maxThreads = Runtime.getRuntime().availableProcessors();
+        System.out.println("Graph: " + graph.presentCount() + " vertices, " + graph.edgeCount() / 2 + " edges");
+
+        PrimMST.mst(graph); // warm-up
+        long start = System.nanoTime();
+        long expected = PrimMST.mst(graph).totalCost;
+        double primMs = (System.nanoTime() - start) / 1e6;
+        System.out.printf("Prim (sequential): %.1f ms, cost %d%n", primMs, expected);
+
+        ParallelBoruvkaMst boruvka = new ParallelBoruvkaMst(graph);
+        for (int threads = 1; threads <= maxThreads; threads = threads < maxThreads ? Math.min(threads * 2, maxThreads) : threads + 1) {
+            boruvka.mst(threads); // warm-up
+            start = System.nanoTime();
+            long cost = boruvka.mst(threads).totalCost;
+            double ms = (System.nanoTime() - start) / 1e6;
+
+            String check = cost == expected ? "ok" : "MISMATCH (" + cost + ")";
+            System.out.printf("Boruvka threads=%-3d %.1f ms  (x%.2f vs Prim) %s%n",
+                    threads, ms, primMs / ms, check);
+        }
+    }
+
+    // Random spanning tree plus random extra edges, costs in [-10000, 10000], stored both ways
+    private static CsrGraph randomConnectedGraph(int n, int m, long seed) {
+        Random rand = new Random(seed);
+        int total = Math.max(m, n - 1);
+        int[] src = new int[2 * total];
+        int[] dst = new int[2 * total];
+        int[] w = new int[2 * total];
+        for (int i = 0; i < total; i++) {
+            int u, v;
+            if (i < n - 1) {
+                u = i + 1;
+                v = rand.nextInt(i + 1);
+            } else {
+                u = rand.nextInt(n);
+                v = rand.nextInt(n);
+            }
+            int c = rand.nextInt(20_001) - 10_000;
+            src[2 * i] = u;
+            dst[2 * i] = v;
+            w[2 * i] = c;
+            src[2 * i + 1] = v;
+            dst[2 * i + 1] = u;
+            w[2 * i + 1] = c;
+        }
+        return CsrGraph.fromEdges(n, src, dst, w, 2 * total, false);
+    }
+}
@@ -0,0 +1,126 @@
+package com.Sasmit;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.IntStream;
+
+/**
+ * Multi-index hashing for Hamming-distance clustering at any threshold d.
+ * Each code is cut into d+1 disjoint substrings. Two codes within distance d differ in at most
+ * d bits, so by pigeonhole they agree exactly on at least one substring. Every substring gets
+ * its own index (codes sorted by that substring's value), and only codes sharing a bucket are
+ * compared, instead of probing all sum(C(bits, k), k <= d) masks around every code.
+ * A pair is verified only from the first substring it agrees on, so no pair is checked twice.
+ */
+public class MultiIndexHamming {
+    private final LongCodeIndex codes;
+    private final int maxDistance;
+    private final int[] shift;   // per substring: lowest bit
+    private final long[] mask;   // per substring: mask of its width
+    private final long[][] tables; // per substring: (value << 32 | code index), sorted so buckets are runs
+
+    private final LongAdder candidates = new LongAdder();
+
+    public MultiIndexHamming(LongCodeIndex codes, int bitLength, int maxDistance) {
+        if (bitLength < 2 || bitLength > 64) throw new IllegalArgumentException("bitLength must be in 2..64");
+        if (maxDistance < 1 || maxDistance >= bitLength) {
+            throw new IllegalArgumentException("maxDistance must be in 1.." + (bitLength - 1));
+        }
+        this.codes = codes;
+        this.maxDistance = maxDistance;
+
+        // d+1 substrings as even as possible; with d >= 1 none is wider than 32 bits
+        int parts = maxDistance + 1;
+        shift = new int[parts];
+        mask = new long[parts];
+        int bit = 0;
+        for (int s = 0; s < parts; s++) {
+            int width = bitLength / parts + (s < bitLength % parts ? 1 : 0);
+            shift[s] = bit;
+            mask[s] = (1L << width) - 1;
+            bit += width;
+        }
+
+        int n = codes.size();
+        tables = new long[parts][];
+        for (int s = 0; s < parts; s++) {
+            long[] table = new long[n];
+            for (int i = 0; i < n; i++) {
+                table[i] = (substring(codes.code(i), s) << 32) | i;
+            }
+            Arrays.parallelSort(table);
+            tables[s] = table;
+        }
+    }
+
+    /**
+     * Number of clusters when every two codes within maxDistance are linked.
+     */
+    public int cluster(int threads) {
+        int n = codes.size();
+        ConcurrentUnionFind uf = new ConcurrentUnionFind(n);
+        candidates.reset();
+        int chunks = threads * 16;
+
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            pool.submit(() -> {
+                for (int s = 0; s < tables.length; s++) {
+                    int sub = s;
+                    long[] table = tables[sub];
+                    IntStream.range(0, chunks).parallel().forEach(c -> {
+                        int from = (int) ((long) n * c / chunks);
+                        int to = (int) ((long) n * (c + 1) / chunks);
+                        // a chunk owns the buckets that start inside it
+                        while (from > 0 && from < to && bucket(table[from]) == bucket(table[from - 1])) from++;
+                        long checked = 0;
+                        for (int start = from; start < to; ) {
+                            int end = start + 1;
+                            while (end < n && bucket(table[end]) == bucket(table[start])) end++;
+                            for (int a = start; a < end; a++) {
+                                int i = (int) table[a];
+                                long ci = codes.code(i);
+                                for (int b = a + 1; b < end; b++) {
+                                    int j = (int) table[b];
+                                    long diff = ci ^ codes.code(j);
+                                    checked++;
+                                    if (Long.bitCount(diff) <= maxDistance && firstAgreement(diff) == sub) uf.union(i, j);
+                                }
+                            }
+                            start = end;
+                        }
+                        candidates.add(checked);
+                    });
+                }
+            }).join();
+        } finally {
+            pool.shutdown();
+        }
+        return uf.numClusters();
+    }
+
+    /** Candidate pairs verified by the last cluster() call. */
+    public long candidatesChecked() {
+        return candidates.sum();
+    }
+
+    public int substringCount() {
+        return tables.length;
+    }
+
+    private long substring(long code, int s) {
+        return (code >>> shift[s]) & mask[s];
+    }
+
+    // First substring on which two codes with this xor agree
+    private int firstAgreement(long diff) {
+        for (int s = 0; ; s++) {
+            if (substring(diff, s) == 0) return s;
+        }
+    }
+
+    private static int bucket(long entry) {
+        return (int) (entry >>> 32);
+    }
+}
@@ -0,0 +1,241 @@
+package com.Sasmit;
+
+import java.io.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.IntStream;
+
+/**
+ * Parallel Boruvka MST for graphs too big for one core.
+ * Every round, each component picks its cheapest outgoing edge (in parallel over the live edges,
+ * with a CAS-min per component), the picked edges are merged, every vertex is relabelled with its
+ * new component, and edges that became internal are filtered out. Each round at least halves the
+ * number of components, so there are at most log2(V) rounds.
+ * Ties are broken by edge index, which makes the edge order strict, so the picked edges can
+ * never close a cycle and the result has the same cost as PrimMST.mst.
+ */
+public class ParallelBoruvkaMst {
+    private static final long NONE = Long.MAX_VALUE;
+
+    private final int vertexCount;   // size of the id space
+    private final int presentCount;  // real vertices
+    private final boolean[] present;
+    private final int[] edgeU;
+    private final int[] edgeV;
+    private final int[] edgeW;
+
+    /**
+     * graph is undirected, every edge stored from both ends (as PrimMST.loadGraphCsr builds it);
+     * each edge is kept once, parallel edges are kept, self-loops are dropped.
+     */
+    public ParallelBoruvkaMst(CsrGraph graph) {
+        if (!graph.isWeighted()) throw new IllegalArgumentException("MST needs a weighted graph");
+        int[] offsets = graph.offsets();
+        int[] targets = graph.targets();
+        int[] weights = graph.weights();
+        int n = graph.vertexCount();
+
+        int m = 0;
+        for (int u = 0; u < n; u++) {
+            for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                if (u < targets[e]) m++;
+            }
+        }
+        edgeU = new int[m];
+        edgeV = new int[m];
+        edgeW = new int[m];
+        int k = 0;
+        for (int u = 0; u < n; u++) {
+            for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                if (u < targets[e]) {
+                    edgeU[k] = u;
+                    edgeV[k] = targets[e];
+                    edgeW[k] = weights[e];
+                    k++;
+                }
+            }
+        }
+
+        this.vertexCount = n;
+        this.presentCount = graph.presentCount();
+        this.present = new boolean[n];
+        for (int v = 0; v < n; v++) present[v] = graph.isPresent(v);
+    }
+
+    /** Reads the same edge file format as PrimMST.loadGraph. */
+    public ParallelBoruvkaMst(String filename) throws IOException {
+        this(PrimMST.loadGraphCsr(filename));
+    }
+
+    public int edgeCount() {
+        return edgeU.length;
+    }
+
+    /**
+     * Minimum spanning tree on threads workers.
+     * Throws if the graph is not connected, like PrimMST.mst.
+     */
+    public PrimMST.MstResult mst(int threads) {
+        if (threads < 1) throw new IllegalArgumentException("threads must be >= 1");
+        int treeEdges = Math.max(0, presentCount - 1);
+        int[] from = new int[treeEdges];
+        int[] to = new int[treeEdges];
+        int[] cost = new int[treeEdges];
+        if (presentCount == 0) return new PrimMST.MstResult(from, to, cost, 0);
+
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            long totalCost = pool.submit(() -> run(threads, from, to, cost)).join();
+            return new PrimMST.MstResult(from, to, cost, totalCost);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    // The Boruvka rounds; runs inside the pool so the parallel streams use its workers
+    private long run(int threads, int[] from, int[] to, int[] cost) {
+        int n = vertexCount;
+        int m = edgeU.length;
+        int chunks = threads * 4;
+
+        int[] comp = new int[n];    // component (root) of every vertex
+        int[] parent = new int[n];  // union-find over roots, only touched sequentially
+        int[] size = new int[n];
+        AtomicLongArray best = new AtomicLongArray(n);
+
+        int[] roots = IntStream.range(0, n).filter(v -> present[v]).toArray();
+        int rootCount = roots.length;
+        for (int v = 0; v < n; v++) {
+            comp[v] = v;
+            parent[v] = v;
+            size[v] = 1;
+        }
+
+        int[] live = IntStream.range(0, m).toArray();
+        int liveCount = m;
+        int[] scratch = new int[m];
+
+        long totalCost = 0;
+        int edges = 0;
+
+        while (liveCount > 0 && rootCount > 1) {
+            for (int i = 0; i < rootCount; i++) best.set(roots[i], NONE);
+
+            // 1) cheapest edge out of every component
+            int[] current = live;
+            int count = liveCount;
+            IntStream.range(0, chunks).parallel().forEach(c -> {
+                int lo = (int) ((long) count * c / chunks);
+                int hi = (int) ((long) count * (c + 1) / chunks);
+                for (int i = lo; i < hi; i++) {
+                    int e = current[i];
+                    int cu = comp[edgeU[e]];
+                    int cv = comp[edgeV[e]];
+                    if (cu == cv) continue;
+                    // weight in the high half, edge index in the low half: a strict total order
+                    long key = ((long) edgeW[e] << 32) | e;
+                    lowerTo(best, cu, key);
+                    lowerTo(best, cv, key);
+                }
+            });
+
+            // 2) merge along the picked edges (at most one per component, so this part is small)
+            for (int i = 0; i < rootCount; i++) {
+                long key = best.get(roots[i]);
+                if (key == NONE) continue;
+                int e = (int) key;
+                int ra = find(parent, comp[edgeU[e]]);
+                int rb = find(parent, comp[edgeV[e]]);
+                if (ra == rb) continue; // picked from both ends
+                if (size[ra] < size[rb]) {
+                    int tmp = ra;
+                    ra = rb;
+                    rb = tmp;
+                }
+                parent[rb] = ra;
+                size[ra] += size[rb];
+
+                from[edges] = edgeU[e];
+                to[edges] = edgeV[e];
+                cost[edges] = edgeW[e];
+                edges++;
+                totalCost += edgeW[e];
+            }
+
+            // 3) relabel: parent is read-only from here on, so finds can run in parallel
+            IntStream.range(0, n).parallel().forEach(v -> {
+                if (present[v]) comp[v] = find(parent, comp[v]);
+            });
+            int kept = 0;
+            for (int i = 0; i < rootCount; i++) {
+                int r = roots[i];
+                if (parent[r] == r) roots[kept++] = r;
+            }
+            rootCount = kept;
+
+            // 4) drop edges that are now inside a component
+            liveCount = filterLive(current, count, scratch, comp, chunks);
+            live = scratch;
+            scratch = current;
+        }
+
+        if (edges != from.length) {
+            throw new RuntimeException("Graph is not connected!");
+        }
+        return totalCost;
+    }
+
+    // Parallel stable compaction of the edges that still cross components; returns the new count
+    private int filterLive(int[] live, int count, int[] out, int[] comp, int chunks) {
+        int[] counts = new int[chunks];
+        IntStream.range(0, chunks).parallel().forEach(c -> {
+            int lo = (int) ((long) count * c / chunks);
+            int hi = (int) ((long) count * (c + 1) / chunks);
+            int kept = 0;
+            for (int i = lo; i < hi; i++) {
+                int e = live[i];
+                if (comp[edgeU[e]] != comp[edgeV[e]]) kept++;
+            }
+            counts[c] = kept;
+        });
+
+        int[] starts = new int[chunks];
+        int total = 0;
+        for (int c = 0; c < chunks; c++) {
+            starts[c] = total;
+            total += counts[c];
+        }
+
+        IntStream.range(0, chunks).parallel().forEach(c -> {
+            int lo = (int) ((long) count * c / chunks);
+            int hi = (int) ((long) count * (c + 1) / chunks);
+            int pos = starts[c];
+            for (int i = lo; i < hi; i++) {
+                int e = live[i];
+                if (comp[edgeU[e]] != comp[edgeV[e]]) out[pos++] = e;
+            }
+        });
+        return total;
+    }
+
+    private static void lowerTo(AtomicLongArray best, int slot, long key) {
+        long current = best.get(slot);
+        while (key < current && !best.compareAndSet(slot, current, key)) {
+            current = best.get(slot);
+        }
+    }
+
+    // Read-only find; union by size keeps the trees O(log V) deep
+    private static int find(int[] parent, int v) {
+        while (parent[v] != v) v = parent[v];
+        return v;
+    }
+
+    public static void main(String[] args) throws IOException {
+        ParallelBoruvkaMst boruvka = new ParallelBoruvkaMst("/Users/sasmitmunagala/Desktop/Sasmit_Algos/GraphTheoryAlgos/src/main/java/com/Sasmit/edges.txt");
+
+        PrimMST.MstResult result = boruvka.mst(Runtime.getRuntime().availableProcessors());
+        System.out.println("MST total cost: " + result.totalCost + " (" + result.edgeCount() + " edges)");
+    }
+}
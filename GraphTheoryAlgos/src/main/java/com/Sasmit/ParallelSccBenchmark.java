@@ -0,0 +1,51 @@
+package com.Sasmit;
+
+import java.io.*;
+import java.util.*;
+
+/**
+ * Thread-scaling benchmark for SccFinder.computeSccsParallel against the sequential Tarjan mode.
+ * Usage: ParallelSccBenchmark [edge list file] ; without a file a random graph is generated.
+ */
+public class ParallelSccBenchmark {
+
+    public static void main(String[] args) throws IOException {
+        CsrGraph graph = args.length > 0
+                ? new MappedEdgeListParser().parse(args[0]).toGraph(true)
+                : randomGraph(2_000_000, 6_000_000, 7);
+        int maxThreads = Runtime.getRuntime().availableProcessors();
+        System.out.println("Graph: " + graph.presentCount() + " vertices, " + graph.edgeCount() + " edges");
+
+        SccFinder finder = new SccFinder(graph);
+        finder.computeSccsTarjan(); // warm-up
+        long start = System.nanoTime();
+        finder.computeSccsTarjan();
+        double tarjanMs = (System.nanoTime() - start) / 1e6;
+        List<Integer> expected = new ArrayList<>(finder.getSccList());
+        System.out.printf("Tarjan (sequential): %.1f ms, %d SCCs, largest %s%n",
+                tarjanMs, expected.size(), expected.subList(0, Math.min(5, expected.size())));
+
+        for (int threads = 1; threads <= maxThreads; threads = threads < maxThreads ? Math.min(threads * 2, maxThreads) : threads + 1) {
+            finder.computeSccsParallel(threads); // warm-up
+            start = System.nanoTime();
+            finder.computeSccsParallel(threads);
+            double ms = (System.nanoTime() - start) / 1e6;
+
+            String check = expected.equals(finder.getSccList()) ? "ok" : "MISMATCH";
+            System.out.printf("forward-backward threads=%-3d %.1f ms  (x%.2f vs Tarjan) %s%n",
+                    threads, ms, tarjanMs / ms, check);
+        }
+    }
+
+    // Sparse random digraph: one giant SCC plus plenty of trimmable and small components
+    private static CsrGraph randomGraph(int n, int m, long seed) {
+        Random rand = new Random(seed);
+        int[] src = new int[m];
+        int[] dst = new int[m];
+        for (int i = 0; i < m; i++) {
+            src[i] = rand.nextInt(n);
+            dst[i] = rand.nextInt(n);
+        }
+        return CsrGraph.fromEdges(n, src, dst, null, m, true);
+    }
+}
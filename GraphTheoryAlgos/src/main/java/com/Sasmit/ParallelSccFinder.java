@@ -0,0 +1,400 @@
+package com.Sasmit;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.stream.IntStream;
+
+/**
+ * Parallel SCC decomposition for very large graphs (forward-backward with trimming):
+ * 1) Trim: vertices with no live in-edge or no live out-edge are singleton SCCs. Live degrees are
+ *    counted once and decremented as neighbours are trimmed, so trimming runs to a fixpoint in
+ *    O(n + m) total, frontier by frontier, however far it cascades.
+ * 2) Forward-backward: pick a random pivot of a subproblem, find what it reaches (forward) and what
+ *    reaches it (backward). The intersection is the pivot's SCC; forward-only, backward-only and
+ *    the rest are independent subproblems. A task keeps looping on the largest of them and forks
+ *    the two smaller ones (each at most half the vertices), so task nesting stays logarithmic
+ *    even on long chains of small SCCs.
+ * Large subproblems run their reachability as parallel level-synchronous BFS, small ones fall
+ * back to sequential Tarjan. Every subproblem has its own id in part[], so tasks never
+ * interfere: a vertex belongs to exactly one live subproblem at a time.
+ */
+public class ParallelSccFinder {
+    // below this a subproblem is cheaper to finish with Tarjan
+    private static final int SEQUENTIAL_CUTOFF = 2048;
+    // above this a BFS frontier is expanded in parallel
+    private static final int PARALLEL_BFS_CUTOFF = 4096;
+
+    private final CsrGraph graph;
+    private final int threads;
+
+    // per-run state
+    private int[] part;
+    private int[] component;
+    private int[] sizes;
+    private AtomicIntegerArray forwardMark;
+    private AtomicIntegerArray backwardMark;
+    private AtomicInteger nextComponent;
+    private AtomicInteger nextPart;
+
+    // Tarjan fallback scratch, indexed by vertex (subproblems are disjoint, so sharing is safe)
+    private int[] index;
+    private int[] low;
+    private int[] nextEdge;
+    private boolean[] onStack;
+
+    private int componentCount;
+    private final List<Integer> sccList = new ArrayList<>();
+
+    public ParallelSccFinder(CsrGraph graph, int threads) {
+        if (!graph.hasReverse()) throw new IllegalArgumentException("Forward-backward SCC needs reverse edges");
+        if (threads < 1) throw new IllegalArgumentException("threads must be >= 1");
+        this.graph = graph;
+        this.threads = threads;
+    }
+
+    /**
+     * Component id per vertex (-1 for ids not in the graph). Component ids are arbitrary here.
+     */
+    public int[] compute() {
+        int n = graph.vertexCount();
+        part = new int[n];
+        component = new int[n];
+        sizes = new int[n];
+        forwardMark = new AtomicIntegerArray(n);
+        backwardMark = new AtomicIntegerArray(n);
+        nextComponent = new AtomicInteger();
+        nextPart = new AtomicInteger(1);
+        index = new int[n];
+        low = new int[n];
+        nextEdge = new int[n];
+        onStack = new boolean[n];
+        Arrays.fill(component, -1);
+        for (int v = 0; v < n; v++) {
+            forwardMark.set(v, -1);
+            backwardMark.set(v, -1);
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            pool.submit(() -> {
+                trim();
+
+                // everything that survived trimming is subproblem 0
+                int[] remaining = IntStream.range(0, n)
+                        .parallel()
+                        .filter(v -> graph.isPresent(v) && component[v] < 0)
+                        .toArray();
+                new Subproblem(remaining, 0).invoke();
+            }).join();
+        } finally {
+            pool.shutdown();
+        }
+
+        componentCount = nextComponent.get();
+        sccList.clear();
+        for (int c = 0; c < componentCount; c++) sccList.add(sizes[c]);
+        sccList.sort(Collections.reverseOrder());
+        return component;
+    }
+
+    public int getComponentCount() {
+        return componentCount;
+    }
+
+    /** Component sizes, largest first (same as SccFinder.getSccList()). */
+    public List<Integer> getSccList() {
+        return sccList;
+    }
+
+    // =============================
+    // Trimming
+    // =============================
+    private void trim() {
+        int n = graph.vertexCount();
+        int[] offsets = graph.offsets();
+        int[] targets = graph.targets();
+        int[] revOffsets = graph.revOffsets();
+        int[] revSources = graph.revSources();
+
+        // live in/out degree, self-loops excluded (they don't make a vertex part of a bigger SCC)
+        AtomicIntegerArray inDegree = new AtomicIntegerArray(n);
+        AtomicIntegerArray outDegree = new AtomicIntegerArray(n);
+        AtomicIntegerArray trimmed = new AtomicIntegerArray(n);
+        IntStream.range(0, n).parallel().forEach(v -> {
+            int out = 0;
+            for (int e = offsets[v]; e < offsets[v + 1]; e++) if (targets[e] != v) out++;
+            int in = 0;
+            for (int e = revOffsets[v]; e < revOffsets[v + 1]; e++) if (revSources[e] != v) in++;
+            outDegree.set(v, out);
+            inDegree.set(v, in);
+        });
+
+        int[] frontier = IntStream.range(0, n).parallel()
+                .filter(v -> graph.isPresent(v) && (inDegree.get(v) == 0 || outDegree.get(v) == 0))
+                .toArray();
+        for (int v : frontier) trimmed.set(v, 1);
+
+        while (frontier.length > 0) {
+            int[] current = frontier;
+            int chunks = current.length < PARALLEL_BFS_CUTOFF ? 1 : threads * 4;
+            int[][] parts = new int[chunks][];
+
+            IntStream.range(0, chunks).parallel().forEach(c -> {
+                int from = (int) ((long) current.length * c / chunks);
+                int to = (int) ((long) current.length * (c + 1) / chunks);
+                int[] out = new int[16];
+                int count = 0;
+                for (int i = from; i < to; i++) {
+                    int v = current[i];
+                    int id = nextComponent.getAndIncrement();
+                    sizes[id] = 1;
+                    component[v] = id;
+                    part[v] = -1;
+
+                    // v is gone: its successors lose an in-edge, its predecessors an out-edge.
+                    // The CAS on trimmed queues a vertex exactly once even if both hit zero
+                    for (int e = offsets[v]; e < offsets[v + 1]; e++) {
+                        int w = targets[e];
+                        if (w != v && inDegree.decrementAndGet(w) == 0 && trimmed.compareAndSet(w, 0, 1)) {
+                            if (count == out.length) out = Arrays.copyOf(out, count * 2);
+                            out[count++] = w;
+                        }
+                    }
+                    for (int e = revOffsets[v]; e < revOffsets[v + 1]; e++) {
+                        int w = revSources[e];
+                        if (w != v && outDegree.decrementAndGet(w) == 0 && trimmed.compareAndSet(w, 0, 1)) {
+                            if (count == out.length) out = Arrays.copyOf(out, count * 2);
+                            out[count++] = w;
+                        }
+                    }
+                }
+                parts[c] = Arrays.copyOf(out, count);
+            });
+
+            int total = 0;
+            for (int[] p : parts) total += p.length;
+            frontier = new int[total];
+            int pos = 0;
+            for (int[] p : parts) {
+                System.arraycopy(p, 0, frontier, pos, p.length);
+                pos += p.length;
+            }
+        }
+    }
+
+    // =============================
+    // Forward-backward recursion
+    // =============================
+    private class Subproblem extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int[] vertices;
+        private final int id;
+
+        Subproblem(int[] vertices, int id) {
+            this.vertices = vertices;
+            this.id = id;
+        }
+
+        @Override
+        protected void compute() {
+            int[] vertices = this.vertices;
+            int id = this.id;
+            List<Subproblem> forked = new ArrayList<>();
+
+            while (vertices.length > SEQUENTIAL_CUTOFF) {
+                // a random pivot splits a chain near the middle instead of peeling one end
+                int pivot = vertices[ThreadLocalRandom.current().nextInt(vertices.length)];
+                reach(pivot, id, forwardMark, graph.offsets(), graph.targets());
+                reach(pivot, id, backwardMark, graph.revOffsets(), graph.revSources());
+
+                int c = nextComponent.getAndIncrement();
+                int size = 0;
+                int forwardId = nextPart.getAndIncrement();
+                int backwardId = nextPart.getAndIncrement();
+                int restId = nextPart.getAndIncrement();
+                int forwardCount = 0, backwardCount = 0, restCount = 0;
+
+                for (int v : vertices) {
+                    boolean f = forwardMark.get(v) == id;
+                    boolean b = backwardMark.get(v) == id;
+                    if (f && b) {
+                        component[v] = c;
+                        part[v] = -1;
+                        size++;
+                    } else if (f) {
+                        part[v] = forwardId;
+                        forwardCount++;
+                    } else if (b) {
+                        part[v] = backwardId;
+                        backwardCount++;
+                    } else {
+                        part[v] = restId;
+                        restCount++;
+                    }
+                }
+                sizes[c] = size;
+
+                int[] forward = new int[forwardCount];
+                int[] backward = new int[backwardCount];
+                int[] rest = new int[restCount];
+                forwardCount = backwardCount = restCount = 0;
+                for (int v : vertices) {
+                    int p = part[v];
+                    if (p == forwardId) forward[forwardCount++] = v;
+                    else if (p == backwardId) backward[backwardCount++] = v;
+                    else if (p == restId) rest[restCount++] = v;
+                }
+
+                // keep the largest part in this task, fork the other two
+                int[][] pieces = {forward, backward, rest};
+                int[] pieceIds = {forwardId, backwardId, restId};
+                int largest = 0;
+                for (int i = 1; i < 3; i++) {
+                    if (pieces[i].length > pieces[largest].length) largest = i;
+                }
+                for (int i = 0; i < 3; i++) {
+                    if (i == largest || pieces[i].length == 0) continue;
+                    Subproblem task = new Subproblem(pieces[i], pieceIds[i]);
+                    task.fork();
+                    forked.add(task);
+                }
+                vertices = pieces[largest];
+                id = pieceIds[largest];
+            }
+
+            if (vertices.length > 0) tarjan(vertices, id);
+            for (Subproblem task : forked) task.join();
+        }
+    }
+
+    /**
+     * Mark with id every vertex of subproblem id reachable from pivot along the given edges.
+     * Level-synchronous BFS, each level expanded in parallel once the frontier gets big.
+     */
+    private void reach(int pivot, int id, AtomicIntegerArray mark, int[] offsets, int[] edges) {
+        mark.set(pivot, id);
+        int[] frontier = {pivot};
+        int frontierSize = 1;
+
+        while (frontierSize > 0) {
+            if (frontierSize < PARALLEL_BFS_CUTOFF) {
+                int[] next = new int[Math.max(16, frontierSize)];
+                int nextSize = 0;
+                for (int i = 0; i < frontierSize; i++) {
+                    int u = frontier[i];
+                    for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                        int w = edges[e];
+                        if (part[w] == id && mark.get(w) != id) {
+                            mark.set(w, id);
+                            if (nextSize == next.length) next = Arrays.copyOf(next, nextSize * 2);
+                            next[nextSize++] = w;
+                        }
+                    }
+                }
+                frontier = next;
+                frontierSize = nextSize;
+            } else {
+                int chunks = threads * 4;
+                int[] current = frontier;
+                int size = frontierSize;
+                int[][] parts = new int[chunks][];
+                int[] counts = new int[chunks];
+
+                IntStream.range(0, chunks).parallel().forEach(c -> {
+                    int from = (int) ((long) size * c / chunks);
+                    int to = (int) ((long) size * (c + 1) / chunks);
+                    int[] out = new int[Math.max(16, to - from)];
+                    int count = 0;
+                    for (int i = from; i < to; i++) {
+                        int u = current[i];
+                        for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                            int w = edges[e];
+                            // claim w with a CAS so exactly one thread adds it to the next frontier
+                            if (part[w] == id && mark.get(w) != id && mark.getAndSet(w, id) != id) {
+                                if (count == out.length) out = Arrays.copyOf(out, count * 2);
+                                out[count++] = w;
+                            }
+                        }
+                    }
+                    parts[c] = out;
+                    counts[c] = count;
+                });
+
+                int total = 0;
+                for (int c = 0; c < chunks; c++) total += counts[c];
+                int[] next = new int[total];
+                int pos = 0;
+                for (int c = 0; c < chunks; c++) {
+                    System.arraycopy(parts[c], 0, next, pos, counts[c]);
+                    pos += counts[c];
+                }
+                frontier = next;
+                frontierSize = total;
+            }
+        }
+    }
+
+    /**
+     * Iterative Tarjan restricted to the vertices of one small subproblem.
+     */
+    private void tarjan(int[] vertices, int id) {
+        int[] offsets = graph.offsets();
+        int[] targets = graph.targets();
+        int[] callStack = new int[vertices.length];
+        int[] sccStack = new int[vertices.length];
+        int counter = 0;
+        int sccTop = 0;
+
+        for (int root : vertices) {
+            if (index[root] != 0) continue;
+
+            int callTop = 0;
+            index[root] = low[root] = ++counter;
+            nextEdge[root] = offsets[root];
+            callStack[callTop++] = root;
+            sccStack[sccTop++] = root;
+            onStack[root] = true;
+
+            while (callTop > 0) {
+                int v = callStack[callTop - 1];
+
+                if (nextEdge[v] < offsets[v + 1]) {
+                    int w = targets[nextEdge[v]++];
+                    if (part[w] != id) continue;
+                    if (index[w] == 0) {
+                        index[w] = low[w] = ++counter;
+                        nextEdge[w] = offsets[w];
+                        callStack[callTop++] = w;
+                        sccStack[sccTop++] = w;
+                        onStack[w] = true;
+                    } else if (onStack[w] && index[w] < low[v]) {
+                        low[v] = index[w];
+                    }
+                    continue;
+                }
+
+                callTop--;
+                if (callTop > 0) {
+                    int parent = callStack[callTop - 1];
+                    if (low[v] < low[parent]) low[parent] = low[v];
+                }
+
+                if (low[v] == index[v]) {
+                    int c = nextComponent.getAndIncrement();
+                    int size = 0;
+                    int w;
+                    do {
+                        w = sccStack[--sccTop];
+                        onStack[w] = false;
+                        component[w] = c;
+                        size++;
+                    } while (w != v);
+                    sizes[c] = size;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,367 @@
+package com.Sasmit;
+
+import java.util.*;
+
+/**
+ * Point-to-point shortest paths that stop as soon as the answer is known:
+ * - early-exit Dijkstra that stops once every requested target is settled
+ * - bidirectional Dijkstra (forward on the CSR, backward on its reverse arrays)
+ * - A* with a caller-supplied admissible heuristic
+ *
+ * Scratch arrays are allocated once and only the entries a query touched are reset afterwards,
+ * so a short query costs time proportional to what it explored, not to the graph size.
+ * An instance is not thread-safe; use one per thread.
+ */
+public class PointToPointSearch {
+
+    /** Lower bound on the remaining distance from vertex to the target (must be >= 0 and admissible). */
+    public interface Heuristic {
+        long estimate(int vertex);
+    }
+
+    /** A shortest path and its length; vertices is empty (and distance Long.MAX_VALUE) if unreachable. */
+    public static final class Route {
+        public final long distance;
+        public final int[] vertices; // source and target inclusive
+
+        Route(long distance, int[] vertices) {
+            this.distance = distance;
+            this.vertices = vertices;
+        }
+    }
+
+    private static final long INF = Long.MAX_VALUE;
+
+    private final CsrGraph graph;
+
+    // forward side
+    private final DaryHeap forwardHeap;
+    private final long[] forwardDist;
+    private final int[] forwardPred;
+    private final boolean[] forwardSettled;
+    private final int[] forwardTouched;
+    private int forwardTouchedCount;
+
+    // backward side (only when the graph has reverse edges)
+    private final DaryHeap backwardHeap;
+    private final long[] backwardDist;
+    private final int[] backwardPred;
+    private final boolean[] backwardSettled;
+    private final int[] backwardTouched;
+    private int backwardTouchedCount;
+
+    private final int[] targetIndex; // target vertex -> how many times it was requested in the current query
+
+    public PointToPointSearch(CsrGraph graph) {
+        if (!graph.isWeighted()) throw new IllegalArgumentException("Shortest paths need a weighted graph");
+        this.graph = graph;
+        int n = graph.vertexCount();
+
+        forwardHeap = new DaryHeap(n, 4);
+        forwardDist = new long[n];
+        forwardPred = new int[n];
+        forwardSettled = new boolean[n];
+        forwardTouched = new int[n];
+        Arrays.fill(forwardDist, INF);
+
+        if (graph.hasReverse()) {
+            backwardHeap = new DaryHeap(n, 4);
+            backwardDist = new long[n];
+            backwardPred = new int[n];
+            backwardSettled = new boolean[n];
+            backwardTouched = new int[n];
+            Arrays.fill(backwardDist, INF);
+        } else {
+            backwardHeap = null;
+            backwardDist = null;
+            backwardPred = null;
+            backwardSettled = null;
+            backwardTouched = null;
+        }
+        targetIndex = new int[n];
+    }
+
+    /** True if the graph had reverse edges, which the bidirectional queries need. */
+    public boolean supportsBidirectional() {
+        return backwardHeap != null;
+    }
+
+    // =============================
+    // Early-exit Dijkstra
+    // =============================
+
+    /**
+     * Distances from source to each of targets (Long.MAX_VALUE if unreachable), settling only
+     * as much of the graph as needed to fix all of them.
+     */
+    public long[] distancesTo(int source, int[] targets) {
+        try {
+            runUntilSettled(source, targets);
+            long[] result = new long[targets.length];
+            for (int i = 0; i < targets.length; i++) result[i] = forwardDist[targets[i]];
+            return result;
+        } finally {
+            resetForward();
+        }
+    }
+
+    /**
+     * Shortest path from source to target (early-exit Dijkstra), settling only what is closer
+     * than target. Unreachable targets give a Route with distance Long.MAX_VALUE and no vertices.
+     */
+    public Route path(int source, int target) {
+        try {
+            runUntilSettled(source, new int[]{target});
+            return new Route(forwardDist[target], forwardPath(source, target));
+        } finally {
+            resetForward();
+        }
+    }
+
+    private void runUntilSettled(int source, int[] targets) {
+        int[] offsets = graph.offsets();
+        int[] edgeTargets = graph.targets();
+        int[] weights = graph.weights();
+
+        int remaining = 0;
+        for (int t : targets) {
+            if (targetIndex[t]++ == 0) remaining++;
+        }
+
+        try {
+            touchForward(source, 0, -1);
+            forwardHeap.insertOrDecrease(source, 0);
+
+            while (remaining > 0 && !forwardHeap.isEmpty()) {
+                int u = forwardHeap.pollMin();
+                forwardSettled[u] = true;
+                if (targetIndex[u] > 0) remaining--;
+
+                long du = forwardDist[u];
+                for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                    int v = edgeTargets[e];
+                    long nd = du + weights[e];
+                    if (nd < forwardDist[v]) {
+                        touchForward(v, nd, u);
+                        forwardHeap.insertOrDecrease(v, nd);
+                    }
+                }
+            }
+        } finally {
+            for (int t : targets) targetIndex[t] = 0;
+        }
+    }
+
+    // =============================
+    // Bidirectional Dijkstra
+    // =============================
+
+    public long bidirectionalDistance(int source, int target) {
+        try {
+            return runBidirectional(source, target, null);
+        } finally {
+            resetForward();
+            resetBackward();
+        }
+    }
+
+    /**
+     * Shortest source -> target path by bidirectional Dijkstra. Unreachable targets give a Route
+     * with distance Long.MAX_VALUE and no vertices.
+     */
+    public Route bidirectionalPath(int source, int target) {
+        try {
+            int[] meet = new int[1];
+            long d = runBidirectional(source, target, meet);
+            if (d == INF) return new Route(INF, new int[0]);
+
+            int[] head = forwardPath(source, meet[0]);
+            int tailLength = 0;
+            for (int v = meet[0]; v != target; v = backwardPred[v]) tailLength++;
+
+            int[] path = Arrays.copyOf(head, head.length + tailLength);
+            int i = head.length;
+            for (int v = meet[0]; v != target; ) {
+                v = backwardPred[v];
+                path[i++] = v;
+            }
+            return new Route(d, path);
+        } finally {
+            resetForward();
+            resetBackward();
+        }
+    }
+
+    private long runBidirectional(int source, int target, int[] meetOut) {
+        if (backwardHeap == null) {
+            throw new IllegalStateException("Bidirectional search needs a graph built with reverse edges");
+        }
+        if (source == target) {
+            if (meetOut != null) meetOut[0] = source;
+            touchForward(source, 0, -1);
+            return 0;
+        }
+
+        int[] offsets = graph.offsets();
+        int[] targets = graph.targets();
+        int[] weights = graph.weights();
+        int[] revOffsets = graph.revOffsets();
+        int[] revSources = graph.revSources();
+        int[] revWeights = graph.revWeights();
+
+        touchForward(source, 0, -1);
+        forwardHeap.insertOrDecrease(source, 0);
+        touchBackward(target, 0, -1);
+        backwardHeap.insertOrDecrease(target, 0);
+
+        long best = INF;
+        int meet = -1;
+
+        while (!forwardHeap.isEmpty() && !backwardHeap.isEmpty()) {
+            long topF = forwardHeap.minKey();
+            long topB = backwardHeap.minKey();
+            // No path through unsettled vertices can beat best any more
+            if (best != INF && topF + topB >= best) break;
+
+            if (topF <= topB) {
+                int u = forwardHeap.pollMin();
+                forwardSettled[u] = true;
+                long du = forwardDist[u];
+                for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                    int v = targets[e];
+                    long nd = du + weights[e];
+                    if (nd < forwardDist[v] && !forwardSettled[v]) {
+                        touchForward(v, nd, u);
+                        forwardHeap.insertOrDecrease(v, nd);
+                    }
+                    if (backwardDist[v] != INF && forwardDist[v] != INF) {
+                        long total = forwardDist[v] + backwardDist[v];
+                        if (total < best) {
+                            best = total;
+                            meet = v;
+                        }
+                    }
+                }
+            } else {
+                int u = backwardHeap.pollMin();
+                backwardSettled[u] = true;
+                long du = backwardDist[u];
+                for (int e = revOffsets[u]; e < revOffsets[u + 1]; e++) {
+                    int v = revSources[e];
+                    long nd = du + revWeights[e];
+                    if (nd < backwardDist[v] && !backwardSettled[v]) {
+                        touchBackward(v, nd, u);
+                        backwardHeap.insertOrDecrease(v, nd);
+                    }
+                    if (forwardDist[v] != INF && backwardDist[v] != INF) {
+                        long total = forwardDist[v] + backwardDist[v];
+                        if (total < best) {
+                            best = total;
+                            meet = v;
+                        }
+                    }
+                }
+            }
+        }
+
+        if (meetOut != null) meetOut[0] = meet;
+        return best;
+    }
+
+    // =============================
+    // A*
+    // =============================
+
+    public long aStarDistance(int source, int target, Heuristic heuristic) {
+        try {
+            return runAStar(source, target, heuristic);
+        } finally {
+            resetForward();
+        }
+    }
+
+    /**
+     * Shortest source -> target path found by A*. Unreachable targets give a Route with
+     * distance Long.MAX_VALUE and no vertices.
+     */
+    public Route aStarPath(int source, int target, Heuristic heuristic) {
+        try {
+            long d = runAStar(source, target, heuristic);
+            return new Route(d, d == INF ? new int[0] : forwardPath(source, target));
+        } finally {
+            resetForward();
+        }
+    }
+
+    private long runAStar(int source, int target, Heuristic heuristic) {
+        int[] offsets = graph.offsets();
+        int[] targets = graph.targets();
+        int[] weights = graph.weights();
+
+        touchForward(source, 0, -1);
+        forwardHeap.insertOrDecrease(source, heuristic.estimate(source));
+
+        while (!forwardHeap.isEmpty()) {
+            int u = forwardHeap.pollMin();
+            // With an admissible heuristic the target is final the first time it is expanded
+            if (u == target) return forwardDist[u];
+
+            long du = forwardDist[u];
+            for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                int v = targets[e];
+                long nd = du + weights[e];
+                // Vertices can be reopened, so merely admissible (inconsistent) heuristics still work
+                if (nd < forwardDist[v]) {
+                    touchForward(v, nd, u);
+                    forwardHeap.insertOrDecrease(v, nd + heuristic.estimate(v));
+                }
+            }
+        }
+        return INF;
+    }
+
+    // =============================
+    // Scratch bookkeeping
+    // =============================
+    private void touchForward(int v, long dist, int pred) {
+        if (forwardDist[v] == INF) forwardTouched[forwardTouchedCount++] = v;
+        forwardDist[v] = dist;
+        forwardPred[v] = pred;
+    }
+
+    private void touchBackward(int v, long dist, int pred) {
+        if (backwardDist[v] == INF) backwardTouched[backwardTouchedCount++] = v;
+        backwardDist[v] = dist;
+        backwardPred[v] = pred;
+    }
+
+    private void resetForward() {
+        for (int i = 0; i < forwardTouchedCount; i++) {
+            int v = forwardTouched[i];
+            forwardDist[v] = INF;
+            forwardSettled[v] = false;
+        }
+        forwardTouchedCount = 0;
+        forwardHeap.clear();
+    }
+
+    private void resetBackward() {
+        if (backwardHeap == null) return;
+        for (int i = 0; i < backwardTouchedCount; i++) {
+            int v = backwardTouched[i];
+            backwardDist[v] = INF;
+            backwardSettled[v] = false;
+        }
+        backwardTouchedCount = 0;
+        backwardHeap.clear();
+    }
+
+    private int[] forwardPath(int source, int target) {
+        if (forwardDist[target] == INF) return new int[0];
+        int length = 1;
+        for (int v = target; v != source; v = forwardPred[v]) length++;
+        int[] path = new int[length];
+        for (int v = target, i = length - 1; i >= 0; v = forwardPred[v], i--) path[i] = v;
+        return path;
+    }
+}
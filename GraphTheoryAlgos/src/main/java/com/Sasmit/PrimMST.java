@@ -5,6 +5,25 @@ import java.util.*;
 
 public class PrimMST {
 
+    // Helper class to store the MST edges (parallel arrays) and the total cost
+    public static class MstResult {
+        public final int[] from;
+        public final int[] to;
+        public final int[] cost;
+        public final long totalCost;
+
+        MstResult(int[] from, int[] to, int[] cost, long totalCost) {
+            this.from = from;
+            this.to = to;
+            this.cost = cost;
+            this.totalCost = totalCost;
+        }
+
+        public int edgeCount() {
+            return from.length;
+        }
+    }
+
     /**
      * Load the graph from a txt file
      */
@@ -65,11 +84,89 @@ public class PrimMST {
         return totalCost;
     }
 
+    /**
+     * Load the same edge file as loadGraph into an undirected CSR (each edge stored both ways)
+     */
+    public static CsrGraph loadGraphCsr(String filename) throws IOException {
+        CsrGraph.Builder builder = new CsrGraph.Builder(true);
+        try (BufferedReader br = new BufferedReader(new FileReader(filename))) {
+            String line = br.readLine(); // first line is number of nodes/edges, skip
+            while ((line = br.readLine()) != null) {
+                line = line.trim();
+                if (line.isEmpty()) continue;
+                String[] parts = line.split("\\s+");
+                int v1 = Integer.parseInt(parts[0]);
+                int v2 = Integer.parseInt(parts[1]);
+                int c = Integer.parseInt(parts[2]);
+
+                builder.addEdge(v1, v2, c);
+                builder.addEdge(v2, v1, c);
+            }
+        }
+        return builder.build(false);
+    }
+
+    /**
+     * Prim's MST with an indexed min-heap over CSR adjacency: O(E log V), no allocation per edge.
+     * key[v] is the cheapest known edge from the tree to v, via[v] the tree end of that edge.
+     */
+    public static MstResult mst(CsrGraph graph) {
+        int n = graph.vertexCount();
+        int[] offsets = graph.offsets();
+        int[] targets = graph.targets();
+        int[] weights = graph.weights();
+
+        int nodes = graph.presentCount();
+        int[] from = new int[Math.max(0, nodes - 1)];
+        int[] to = new int[from.length];
+        int[] cost = new int[from.length];
+        if (nodes == 0) return new MstResult(from, to, cost, 0);
+
+        DaryHeap heap = new DaryHeap(n, 4);
+        boolean[] inTree = new boolean[n];
+        int[] via = new int[n];
+        long totalCost = 0;
+        int edges = 0;
+
+        int start = graph.firstVertex(); // start with any node
+        via[start] = -1;
+        heap.insertOrDecrease(start, 0);
+
+        while (!heap.isEmpty()) {
+            // keys are shifted by -Integer.MIN_VALUE so negative costs still fit the heap
+            int key = (int) (heap.minKey() + Integer.MIN_VALUE);
+            int v = heap.pollMin();
+            inTree[v] = true;
+
+            if (via[v] >= 0) {
+                from[edges] = via[v];
+                to[edges] = v;
+                cost[edges] = key;
+                edges++;
+                totalCost += key;
+            }
+
+            for (int e = offsets[v]; e < offsets[v + 1]; e++) {
+                int u = targets[e];
+                if (inTree[u]) continue;
+                long shifted = (long) weights[e] - Integer.MIN_VALUE;
+                if (!heap.contains(u) || shifted < heap.keyOf(u)) {
+                    via[u] = v;
+                    heap.insertOrDecrease(u, shifted);
+                }
+            }
+        }
+
+        if (edges != from.length) {
+            throw new RuntimeException("Graph is not connected!");
+        }
+        return new MstResult(from, to, cost, totalCost);
+    }
+
     public static void main(String[] args) throws IOException {
-        Set<Integer> nodes = new HashSet<>();
-        Map<String, Integer> graph = loadGraph("/Users/sasmitmunagala/Desktop/Sasmit_Algos/GraphTheoryAlgos/src/main/java/com/Sasmit/edges.txt", nodes);
+        CsrGraph graph = loadGraphCsr("/Users/sasmitmunagala/Desktop/Sasmit_Algos/GraphTheoryAlgos/src/main/java/com/Sasmit/edges.txt");
 
-        long cost = mst(graph, nodes);
-        System.out.println("MST total cost: " + cost);
+        MstResult result = mst(graph);
+        System.out.println("MST total cost: " + result.totalCost + " (" + result.edgeCount() + " edges)");
     }
 }
@@ -0,0 +1,30 @@
+package com.Sasmit;
+
+/**
+ * Which IndexedMinQueue a shortest-path run should use.
+ */
+public enum QueueStrategy {
+    /** Indexed 4-ary heap, works for any non-negative weights. */
+    D_ARY_HEAP,
+    /** 64-bit radix heap, monotone keys only (fine for Dijkstra). */
+    RADIX_HEAP,
+    /** Dial's circular buckets, best when the largest edge weight is small. */
+    DIAL_BUCKETS;
+
+    public IndexedMinQueue create(CsrGraph graph) {
+        return create(graph.vertexCount(), graph.maxWeight());
+    }
+
+    public IndexedMinQueue create(int capacity, int maxWeight) {
+        switch (this) {
+            case D_ARY_HEAP:
+                return new DaryHeap(capacity, 4);
+            case RADIX_HEAP:
+                return new RadixHeap(capacity);
+            case DIAL_BUCKETS:
+                return new DialBuckets(capacity, maxWeight);
+            default:
+                throw new IllegalStateException("Unknown strategy " + this);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.Sasmit;
+
+import java.util.*;
+
+/**
+ * Monotone radix heap over 64-bit keys.
+ * Bucket b > 0 holds keys whose highest bit differing from the last extracted key is bit b-1,
+ * bucket 0 holds keys equal to it. Buckets are intrusive doubly linked lists over vertex ids,
+ * so decrease-key just moves the vertex to a lower bucket.
+ */
+public class RadixHeap implements IndexedMinQueue {
+    private static final int NONE = -1;
+
+    private final int[] head = new int[65];
+    private final int[] next;
+    private final int[] prev;
+    private final int[] bucketOf;   // -1 when not queued
+    private final long[] keys;
+    private long last;
+    private int size;
+
+    public RadixHeap(int capacity) {
+        next = new int[capacity];
+        prev = new int[capacity];
+        bucketOf = new int[capacity];
+        keys = new long[capacity];
+        Arrays.fill(head, NONE);
+        Arrays.fill(bucketOf, NONE);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public boolean contains(int vertex) {
+        return bucketOf[vertex] != NONE;
+    }
+
+    @Override
+    public void insertOrDecrease(int vertex, long key) {
+        if (key < last) throw new IllegalArgumentException("Key " + key + " is below the last extracted key " + last);
+        if (bucketOf[vertex] != NONE) {
+            if (key >= keys[vertex]) return;
+            unlink(vertex);
+        } else {
+            size++;
+        }
+        keys[vertex] = key;
+        link(vertex, bucket(key));
+    }
+
+    @Override
+    public int pollMin() {
+        if (size == 0) throw new NoSuchElementException("Heap is empty");
+
+        if (head[0] == NONE) {
+            int b = 1;
+            while (head[b] == NONE) b++;
+
+            // new "last" is the smallest key in the first non-empty bucket
+            long min = Long.MAX_VALUE;
+            for (int v = head[b]; v != NONE; v = next[v]) {
+                if (keys[v] < min) min = keys[v];
+            }
+            last = min;
+
+            // every element of bucket b lands in a strictly lower bucket
+            int v = head[b];
+            head[b] = NONE;
+            while (v != NONE) {
+                int following = next[v];
+                link(v, bucket(keys[v]));
+                v = following;
+            }
+        }
+
+        int vertex = head[0];
+        unlink(vertex);
+        bucketOf[vertex] = NONE;
+        size--;
+        return vertex;
+    }
+
+    @Override
+    public void clear() {
+        for (int b = 0; b < head.length; b++) {
+            for (int v = head[b]; v != NONE; v = next[v]) bucketOf[v] = NONE;
+            head[b] = NONE;
+        }
+        size = 0;
+        last = 0;
+    }
+
+    @Override
+    public int capacity() {
+        return keys.length;
+    }
+
+    private int bucket(long key) {
+        return key == last ? 0 : 64 - Long.numberOfLeadingZeros(key ^ last);
+    }
+
+    private void link(int v, int b) {
+        bucketOf[v] = b;
+        prev[v] = NONE;
+        next[v] = head[b];
+        if (head[b] != NONE) prev[head[b]] = v;
+        head[b] = v;
+    }
+
+    private void unlink(int v) {
+        int b = bucketOf[v];
+        if (prev[v] != NONE) next[prev[v]] = next[v];
+        else head[b] = next[v];
+        if (next[v] != NONE) prev[next[v]] = prev[v];
+    }
+}
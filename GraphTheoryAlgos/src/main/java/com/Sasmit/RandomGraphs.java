@@ -0,0 +1,42 @@
+package com.Sasmit;
+
+import java.util.*;
+
+/**
+ * Seeded random graph generators for the benchmark drivers.
+ */
+final class RandomGraphs {
+
+    private RandomGraphs() {
+    }
+
+    /**
+     * Directed graph on vertices 0..n-1 with m random edges and weights in [1, maxWeight].
+     * A Hamiltonian cycle 0 -> 1 -> ... -> 0 is always included, so everything is reachable.
+     */
+    static CsrGraph weighted(int n, int m, int maxWeight, long seed, boolean withReverse) {
+        Random rand = new Random(seed);
+        int total = Math.max(m, n);
+        int[] src = new int[total];
+        int[] dst = new int[total];
+        int[] w = new int[total];
+        for (int i = 0; i < total; i++) {
+            if (i < n) {
+                src[i] = i;
+                dst[i] = (i + 1) % n;
+            } else {
+                src[i] = rand.nextInt(n);
+                dst[i] = rand.nextInt(n);
+            }
+            w[i] = 1 + rand.nextInt(maxWeight);
+        }
+        return CsrGraph.fromEdges(n, src, dst, w, total, withReverse);
+    }
+
+    static int[] randomVertices(int count, int n, long seed) {
+        Random rand = new Random(seed);
+        int[] vertices = new int[count];
+        for (int i = 0; i < count; i++) vertices[i] = rand.nextInt(n);
+        return vertices;
+    }
+}
@@ -4,16 +4,45 @@ import java.io.*;
 import java.util.*;
 
 public class SccFinder {
-    private Map<Integer, List<Integer>> graph;
-    private List<Integer> finishOrder;
-    private List<Integer> sccList;
+    private final CsrGraph graph;
+    private int[] finishOrder;
+    private int finishCount;
+    private final List<Integer> sccList;
+    private int[] componentIds;   // set by computeSccsTarjan, -1 for ids not in the graph
+    private int componentCount;
+    private MappedEdgeListParser.ParsedEdges parseStats; // only set by the mapped loader
 
     public SccFinder(String inputFile) throws IOException {
-        this.graph = new HashMap<>();
-        this.finishOrder = new ArrayList<>();
+        this(readEdgeList(inputFile));
+    }
+
+    // Memory-mapped, multi-threaded load (threads <= 0 means one per core)
+    public SccFinder(String inputFile, int threads) throws IOException {
+        this(threads > 0
+                ? new MappedEdgeListParser(threads).parse(inputFile)
+                : new MappedEdgeListParser().parse(inputFile));
+    }
+
+    private SccFinder(MappedEdgeListParser.ParsedEdges edges) {
+        this(edges.toGraph(true));
+        this.parseStats = edges;
+    }
+
+    // Adapter for callers that still build the old map representation (forward edges only)
+    public SccFinder(Map<Integer, List<Integer>> graph) {
+        this(CsrGraph.fromAdjacency(graph, true));
+    }
+
+    // The Kosaraju passes need reverse edges; computeSccsTarjan only uses the forward ones
+    public SccFinder(CsrGraph graph) {
+        this.graph = graph;
+        this.finishOrder = new int[0];
         this.sccList = new ArrayList<>();
+    }
 
-        // Read the file and build the graph
+    // Read the "from to" edge list and build forward + reverse CSR
+    static CsrGraph readEdgeList(String inputFile) throws IOException {
+        CsrGraph.Builder builder = new CsrGraph.Builder(false);
         try (BufferedReader br = new BufferedReader(new FileReader(inputFile))) {
             String line;
             while ((line = br.readLine()) != null) {
@@ -21,56 +50,61 @@ public class SccFinder {
                 if (parts.length >= 2) {
                     int fromV = Integer.parseInt(parts[0]);
                     int toV = Integer.parseInt(parts[1]);
-                    addEdgeToGraph(fromV, toV);
+                    builder.addEdge(fromV, toV);
                 }
             }
         }
+        return builder.build(true);
     }
 
-    private void addEdgeToGraph(int fromV, int toV) {
-        // Add forward edge
-        graph.computeIfAbsent(fromV, k -> new ArrayList<>()).add(toV);
-
-        // Add reverse edge (negative value indicates reverse)
-        graph.computeIfAbsent(toV, k -> new ArrayList<>()).add(-fromV);
+    /** Parse size/time/throughput when loaded through the mapped parser, otherwise null. */
+    public MappedEdgeListParser.ParsedEdges getParseStats() {
+        return parseStats;
+    }
 
-        // Ensure both vertices exist in the graph even if they have no outgoing edges
-        graph.putIfAbsent(fromV, new ArrayList<>());
-        graph.putIfAbsent(toV, new ArrayList<>());
+    public CsrGraph getGraph() {
+        return graph;
     }
 
     public void computeFinishTimes() {
-        Set<Integer> visitedNodes = new HashSet<>();
-        Set<Integer> finishedNodes = new HashSet<>();
+        int n = graph.vertexCount();
+        int[] revOffsets = graph.revOffsets();
+        int[] revSources = graph.revSources();
+
+        boolean[] visitedNodes = new boolean[n];
+        boolean[] finishedNodes = new boolean[n];
+        finishOrder = new int[graph.presentCount()];
+        finishCount = 0;
+
+        // Every vertex is pushed once as a root/re-push and at most once per in-edge
+        int[] nodesStack = new int[2 * n + graph.edgeCount()];
 
-        for (Integer vertex : graph.keySet()) {
-            if (visitedNodes.contains(vertex)) {
+        for (int vertex = 0; vertex < n; vertex++) {
+            if (!graph.isPresent(vertex) || visitedNodes[vertex]) {
                 continue;
             }
 
-            Stack<Integer> nodesStack = new Stack<>();
-            nodesStack.push(vertex);
+            int top = 0;
+            nodesStack[top++] = vertex;
 
-            while (!nodesStack.isEmpty()) {
-                Integer node = nodesStack.pop();
+            while (top > 0) {
+                int node = nodesStack[--top];
 
-                if (!visitedNodes.contains(node)) {
-                    visitedNodes.add(node);
-                    nodesStack.push(node);
+                if (!visitedNodes[node]) {
+                    visitedNodes[node] = true;
+                    nodesStack[top++] = node;
 
-                    // Get neighbors from reverse edges (negative values)
-                    for (Integer edge : graph.get(node)) {
-                        if (edge < 0) {
-                            Integer neighbor = -edge;
-                            if (!visitedNodes.contains(neighbor)) {
-                                nodesStack.push(neighbor);
-                            }
+                    // Walk the reverse edges
+                    for (int e = revOffsets[node]; e < revOffsets[node + 1]; e++) {
+                        int neighbor = revSources[e];
+                        if (!visitedNodes[neighbor]) {
+                            nodesStack[top++] = neighbor;
                         }
                     }
                 } else {
-                    if (!finishedNodes.contains(node)) {
-                        finishOrder.add(node);
-                        finishedNodes.add(node);
+                    if (!finishedNodes[node]) {
+                        finishOrder[finishCount++] = node;
+                        finishedNodes[node] = true;
                     }
                 }
             }
@@ -78,33 +112,38 @@ public class SccFinder {
     }
 
     public void computeSccs() {
-        Set<Integer> visitedNodes = new HashSet<>();
+        int n = graph.vertexCount();
+        int[] offsets = graph.offsets();
+        int[] targets = graph.targets();
+
+        boolean[] visitedNodes = new boolean[n];
+        int[] nodesStack = new int[n + graph.edgeCount()];
+        sccList.clear();
 
         // Process nodes in reverse finish order
-        for (int i = finishOrder.size() - 1; i >= 0; i--) {
-            Integer startNode = finishOrder.get(i);
+        for (int i = finishCount - 1; i >= 0; i--) {
+            int startNode = finishOrder[i];
 
-            if (visitedNodes.contains(startNode)) {
+            if (visitedNodes[startNode]) {
                 continue;
             }
 
-            Stack<Integer> nodesStack = new Stack<>();
-            nodesStack.push(startNode);
+            int top = 0;
+            nodesStack[top++] = startNode;
             int size = 0;
 
-            while (!nodesStack.isEmpty()) {
-                Integer node = nodesStack.pop();
+            while (top > 0) {
+                int node = nodesStack[--top];
 
-                if (!visitedNodes.contains(node)) {
+                if (!visitedNodes[node]) {
                     size++;
-                    visitedNodes.add(node);
-
-                    // Get neighbors from forward edges (positive values)
-                    for (Integer edge : graph.get(node)) {
-                        if (edge > 0) {
-                            if (!visitedNodes.contains(edge)) {
-                                nodesStack.push(edge);
-                            }
+                    visitedNodes[node] = true;
+
+                    // Walk the forward edges
+                    for (int e = offsets[node]; e < offsets[node + 1]; e++) {
+                        int neighbor = targets[e];
+                        if (!visitedNodes[neighbor]) {
+                            nodesStack[top++] = neighbor;
                         }
                     }
                 }
@@ -117,6 +156,214 @@ public class SccFinder {
         sccList.sort(Collections.reverseOrder());
     }
 
+    /**
+     * One-pass iterative Tarjan over the forward CSR.
+     * The recursion is replaced by an explicit call stack plus a per-vertex "next edge" cursor,
+     * and all working arrays are allocated once up front, so the traversal itself allocates nothing.
+     * Components are numbered in the order Tarjan completes them, which is a reverse topological
+     * order of the condensation. Fills getSccList() like computeSccs() does and returns the
+     * component id of every vertex (-1 for ids that are not in the graph).
+     */
+    public int[] computeSccsTarjan() {
+        int n = graph.vertexCount();
+        int[] offsets = graph.offsets();
+        int[] targets = graph.targets();
+
+        int[] index = new int[n];        // discovery order + 1, 0 = unvisited
+        int[] low = new int[n];
+        int[] nextEdge = new int[n];     // resume position in v's out-edges
+        int[] callStack = new int[n];
+        int[] sccStack = new int[n];
+        boolean[] onStack = new boolean[n];
+        int[] component = new int[n];
+        int[] sizes = new int[n];
+        Arrays.fill(component, -1);
+
+        int counter = 0;
+        int components = 0;
+        int sccTop = 0;
+
+        for (int root = 0; root < n; root++) {
+            if (!graph.isPresent(root) || index[root] != 0) continue;
+
+            int callTop = 0;
+            index[root] = low[root] = ++counter;
+            nextEdge[root] = offsets[root];
+            callStack[callTop++] = root;
+            sccStack[sccTop++] = root;
+            onStack[root] = true;
+
+            while (callTop > 0) {
+                int v = callStack[callTop - 1];
+
+                if (nextEdge[v] < offsets[v + 1]) {
+                    int w = targets[nextEdge[v]++];
+                    if (index[w] == 0) {
+                        // "recurse" into w
+                        index[w] = low[w] = ++counter;
+                        nextEdge[w] = offsets[w];
+                        callStack[callTop++] = w;
+                        sccStack[sccTop++] = w;
+                        onStack[w] = true;
+                    } else if (onStack[w] && index[w] < low[v]) {
+                        low[v] = index[w];
+                    }
+                    continue;
+                }
+
+                // v is done: "return" to its caller
+                callTop--;
+                if (callTop > 0) {
+                    int parent = callStack[callTop - 1];
+                    if (low[v] < low[parent]) low[parent] = low[v];
+                }
+
+                if (low[v] == index[v]) {
+                    int size = 0;
+                    int w;
+                    do {
+                        w = sccStack[--sccTop];
+                        onStack[w] = false;
+                        component[w] = components;
+                        size++;
+                    } while (w != v);
+                    sizes[components++] = size;
+                }
+            }
+        }
+
+        componentIds = component;
+        componentCount = components;
+
+        sccList.clear();
+        for (int c = 0; c < components; c++) sccList.add(sizes[c]);
+        sccList.sort(Collections.reverseOrder());
+        return component;
+    }
+
+    /**
+     * Parallel trim + forward-backward decomposition (see ParallelSccFinder) on a fork-join pool.
+     * Produces the same getSccList() as the Kosaraju and Tarjan modes; needs reverse edges.
+     */
+    public int[] computeSccsParallel(int threads) {
+        ParallelSccFinder parallel = new ParallelSccFinder(graph, threads);
+        int[] component = parallel.compute();
+
+        componentIds = component;
+        componentCount = parallel.getComponentCount();
+        sccList.clear();
+        sccList.addAll(parallel.getSccList());
+        return component;
+    }
+
+    /** Component id per vertex from the last computeSccsTarjan() / computeSccsParallel() call, or null. */
+    public int[] getComponentIds() {
+        return componentIds;
+    }
+
+    public int getComponentCount() {
+        return componentCount;
+    }
+
+    /**
+     * Receives one SCC at a time: its members are vertices[from .. to). The array is shared
+     * between calls, so copy the range if it must outlive the callback.
+     */
+    public interface ComponentVisitor {
+        void visit(int component, int[] vertices, int from, int to);
+    }
+
+    /**
+     * The condensation DAG: vertex c is component c, with one edge c -> d for every pair of
+     * distinct components joined by at least one original edge (duplicates removed).
+     * Uses the components of the last Tarjan/parallel run, running Tarjan first if needed.
+     */
+    public CsrGraph condensation(boolean withReverse) {
+        if (componentIds == null) computeSccsTarjan();
+        int[] offsets = graph.offsets();
+        int[] targets = graph.targets();
+        int k = componentCount;
+
+        // Group vertices by component, then emit each component's outgoing edges once
+        int[] memberStart = new int[k + 1];
+        int[] members = groupByComponent(memberStart);
+
+        int[] lastSeen = new int[k];
+        Arrays.fill(lastSeen, -1);
+        int[] src = new int[16];
+        int[] dst = new int[16];
+        int m = 0;
+
+        for (int c = 0; c < k; c++) {
+            for (int i = memberStart[c]; i < memberStart[c + 1]; i++) {
+                int u = members[i];
+                for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                    int d = componentIds[targets[e]];
+                    if (d == c || lastSeen[d] == c) continue;
+                    lastSeen[d] = c;
+                    if (m == src.length) {
+                        src = Arrays.copyOf(src, m * 2);
+                        dst = Arrays.copyOf(dst, m * 2);
+                    }
+                    src[m] = c;
+                    dst[m] = d;
+                    m++;
+                }
+            }
+        }
+
+        boolean[] present = new boolean[k];
+        Arrays.fill(present, true);
+        return CsrGraph.fromEdges(k, src, dst, null, m, withReverse, present);
+    }
+
+    /**
+     * Visit the SCCs in topological order of the condensation (a component comes before every
+     * component it has an edge to). Members are handed over as ranges of one flat int array.
+     */
+    public void forEachComponentInTopologicalOrder(ComponentVisitor visitor) {
+        CsrGraph dag = condensation(false);
+        int k = dag.vertexCount();
+        int[] dagOffsets = dag.offsets();
+        int[] dagTargets = dag.targets();
+
+        int[] memberStart = new int[k + 1];
+        int[] members = groupByComponent(memberStart);
+
+        // Kahn's algorithm over the DAG
+        int[] inDegree = new int[k];
+        for (int e = 0; e < dag.edgeCount(); e++) inDegree[dagTargets[e]]++;
+        int[] queue = new int[k];
+        int head = 0, tail = 0;
+        for (int c = 0; c < k; c++) {
+            if (inDegree[c] == 0) queue[tail++] = c;
+        }
+
+        while (head < tail) {
+            int c = queue[head++];
+            visitor.visit(c, members, memberStart[c], memberStart[c + 1]);
+            for (int e = dagOffsets[c]; e < dagOffsets[c + 1]; e++) {
+                if (--inDegree[dagTargets[e]] == 0) queue[tail++] = dagTargets[e];
+            }
+        }
+    }
+
+    // Counting sort of the vertices by component id; start must have length componentCount + 1
+    private int[] groupByComponent(int[] start) {
+        int n = graph.vertexCount();
+        for (int v = 0; v < n; v++) {
+            if (componentIds[v] >= 0) start[componentIds[v] + 1]++;
+        }
+        for (int c = 0; c < componentCount; c++) start[c + 1] += start[c];
+
+        int[] members = new int[start[componentCount]];
+        int[] cursor = Arrays.copyOf(start, componentCount);
+        for (int v = 0; v < n; v++) {
+            if (componentIds[v] >= 0) members[cursor[componentIds[v]]++] = v;
+        }
+        return members;
+    }
+
     public List<Integer> getSccList() {
         return sccList;
     }
@@ -134,9 +381,9 @@ public class SccFinder {
 
     public static void main(String[] args) {
         try {
-            SccFinder sccFinder = new SccFinder("/Users/sasmitmunagala/Desktop/Sasmit_Algos/GraphTheoryAlgos/src/main/java/com/Sasmit/assignment4");
-            sccFinder.computeFinishTimes();
-            sccFinder.computeSccs();
+            SccFinder sccFinder = new SccFinder("/Users/sasmitmunagala/Desktop/Sasmit_Algos/GraphTheoryAlgos/src/main/java/com/Sasmit/assignment4", 0);
+            System.out.println("Parsed " + sccFinder.getParseStats());
+            sccFinder.computeSccsTarjan();
 
             // Print top 5 SCCs
             sccFinder.printTopSccs(5);
@@ -0,0 +1,147 @@
+package com.Sasmit;
+
+import java.util.*;
+
+/**
+ * LRU cache of shortest-path trees (distance + predecessor arrays) keyed by source,
+ * bounded by an approximate memory budget rather than an entry count.
+ * Every lookup compares the Dijkstra instance's graph version with the one the cache was filled
+ * from, so replacing the graph drops all cached trees automatically.
+ * Safe to share between threads; a miss is computed outside the lock.
+ */
+public class ShortestPathCache {
+    // array headers + the ShortestPathTree object itself, roughly
+    private static final long TREE_OVERHEAD_BYTES = 64;
+
+    private final DijkstraDistancesWithHeap dijkstra;
+    private final long maxBytes;
+
+    // access-ordered, so iteration starts at the least recently used source
+    private final LinkedHashMap<Integer, ShortestPathTree> trees = new LinkedHashMap<>(16, 0.75f, true);
+    private long bytesUsed;
+    private long cachedVersion;
+
+    private long hits;
+    private long misses;
+    private long evictions;
+    private long invalidations;
+
+    public ShortestPathCache(DijkstraDistancesWithHeap dijkstra, long maxBytes) {
+        if (maxBytes <= 0) throw new IllegalArgumentException("maxBytes must be positive");
+        this.dijkstra = dijkstra;
+        this.maxBytes = maxBytes;
+        this.cachedVersion = dijkstra.getVersion();
+    }
+
+    /**
+     * Shortest-path tree for source, from the cache when possible.
+     * The tree is shared with every other caller and must not be modified
+     * (IncrementalShortestPaths.repair returns a repaired copy instead).
+     */
+    public ShortestPathTree get(int source) {
+        long version;
+        synchronized (this) {
+            version = checkVersion();
+            ShortestPathTree tree = trees.get(source);
+            if (tree != null) {
+                hits++;
+                return tree;
+            }
+            misses++;
+        }
+
+        ShortestPathTree tree = dijkstra.shortestPathTree(source);
+
+        synchronized (this) {
+            // graph changed while we were computing: hand the result back but don't cache it
+            if (checkVersion() != version) return tree;
+
+            long size = sizeOf(tree);
+            if (size > maxBytes) return tree;
+
+            ShortestPathTree previous = trees.put(source, tree);
+            if (previous != null) bytesUsed -= sizeOf(previous);
+            bytesUsed += size;
+            evictUntilWithinBudget();
+        }
+        return tree;
+    }
+
+    public long[] distances(int source) {
+        return get(source).distances().clone();
+    }
+
+    /** Drop everything (e.g. after changing the graph in place without going through setGraph). */
+    public synchronized void invalidate() {
+        if (!trees.isEmpty()) invalidations++;
+        trees.clear();
+        bytesUsed = 0;
+    }
+
+    // Clears the cache if the graph was replaced since the last call; returns the current version
+    private long checkVersion() {
+        long version = dijkstra.getVersion();
+        if (version != cachedVersion) {
+            invalidate();
+            cachedVersion = version;
+        }
+        return version;
+    }
+
+    private void evictUntilWithinBudget() {
+        Iterator<Map.Entry<Integer, ShortestPathTree>> it = trees.entrySet().iterator();
+        while (bytesUsed > maxBytes && it.hasNext()) {
+            ShortestPathTree eldest = it.next().getValue();
+            it.remove();
+            bytesUsed -= sizeOf(eldest);
+            evictions++;
+        }
+    }
+
+    static long sizeOf(ShortestPathTree tree) {
+        // 8 bytes of distance + 4 bytes of predecessor per vertex
+        return TREE_OVERHEAD_BYTES + 12L * tree.vertexCount();
+    }
+
+    // =============================
+    // Stats
+    // =============================
+    public synchronized int size() {
+        return trees.size();
+    }
+
+    public synchronized long bytesUsed() {
+        return bytesUsed;
+    }
+
+    public long maxBytes() {
+        return maxBytes;
+    }
+
+    public synchronized long hits() {
+        return hits;
+    }
+
+    public synchronized long misses() {
+        return misses;
+    }
+
+    public synchronized long evictions() {
+        return evictions;
+    }
+
+    public synchronized long invalidations() {
+        return invalidations;
+    }
+
+    public synchronized double hitRate() {
+        long total = hits + misses;
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return String.format("ShortestPathCache[%d trees, %d/%d bytes, hits=%d, misses=%d, evictions=%d, invalidations=%d]",
+                trees.size(), bytesUsed, maxBytes, hits, misses, evictions, invalidations);
+    }
+}
@@ -0,0 +1,141 @@
+package com.Sasmit;
+
+import java.io.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Runs many single-source shortest-path queries against one graph loaded once.
+ * CsrGraph is immutable, so every worker of the fork-join pool reads the same arrays;
+ * each worker keeps its own queue/distance/predecessor scratch and reuses it across queries.
+ */
+public class ShortestPathQueryEngine implements AutoCloseable {
+
+    /**
+     * Receives each query result as soon as it is done, on the worker thread that computed it.
+     * dist and pred are that worker's scratch arrays: copy anything needed after the callback returns.
+     */
+    public interface ResultListener {
+        void onResult(int source, long[] dist, int[] pred);
+    }
+
+    // Per-worker reusable buffers
+    private static class Scratch {
+        final IndexedMinQueue queue;
+        final long[] dist;
+        final int[] pred;
+
+        Scratch(CsrGraph graph, QueueStrategy strategy) {
+            this.queue = strategy.create(graph);
+            this.dist = new long[graph.vertexCount()];
+            this.pred = new int[graph.vertexCount()];
+        }
+    }
+
+    private final CsrGraph graph;
+    private final ForkJoinPool pool;
+    private final ThreadLocal<Scratch> scratch;
+
+    public ShortestPathQueryEngine(String inputFile) throws IOException {
+        this(CsrGraph.loadWeightedAdjacency(inputFile, false), QueueStrategy.D_ARY_HEAP,
+                Runtime.getRuntime().availableProcessors());
+    }
+
+    public ShortestPathQueryEngine(CsrGraph graph, QueueStrategy strategy, int parallelism) {
+        if (!graph.isWeighted()) throw new IllegalArgumentException("Dijkstra needs a weighted graph");
+        this.graph = graph;
+        this.pool = new ForkJoinPool(parallelism);
+        this.scratch = ThreadLocal.withInitial(() -> new Scratch(graph, strategy));
+    }
+
+    public CsrGraph getGraph() {
+        return graph;
+    }
+
+    /**
+     * Queue one query; the returned tree owns its own copy of the arrays.
+     */
+    public CompletableFuture<ShortestPathTree> submit(int source) {
+        checkSource(source);
+        return CompletableFuture.supplyAsync(() -> {
+            Scratch s = compute(source);
+            return new ShortestPathTree(source, s.dist.clone(), s.pred.clone());
+        }, pool);
+    }
+
+    /**
+     * Queue a batch of queries. Futures complete in whatever order the workers finish;
+     * use CompletableFuture.anyOf / thenAccept to consume them as they arrive.
+     */
+    public List<CompletableFuture<ShortestPathTree>> submitBatch(int[] sources) {
+        List<CompletableFuture<ShortestPathTree>> futures = new ArrayList<>(sources.length);
+        for (int source : sources) futures.add(submit(source));
+        return futures;
+    }
+
+    /**
+     * Run a batch and hand every result to listener as it finishes, without copying the arrays.
+     * Blocks until the whole batch is done; the first listener/query failure is rethrown.
+     */
+    public void runBatch(int[] sources, ResultListener listener) throws InterruptedException {
+        for (int source : sources) checkSource(source);
+
+        List<ForkJoinTask<?>> tasks = new ArrayList<>(sources.length);
+        for (int source : sources) {
+            tasks.add(pool.submit(() -> {
+                Scratch s = compute(source);
+                listener.onResult(source, s.dist, s.pred);
+            }));
+        }
+
+        RuntimeException failure = null;
+        for (ForkJoinTask<?> task : tasks) {
+            try {
+                task.get();
+            } catch (ExecutionException e) {
+                if (failure == null) {
+                    Throwable cause = e.getCause();
+                    failure = cause instanceof RuntimeException
+                            ? (RuntimeException) cause
+                            : new RuntimeException(cause);
+                }
+            }
+        }
+        if (failure != null) throw failure;
+    }
+
+    private Scratch compute(int source) {
+        Scratch s = scratch.get();
+        DijkstraDistancesWithHeap.run(graph, source, s.queue, s.dist, s.pred);
+        return s;
+    }
+
+    private void checkSource(int source) {
+        if (!graph.isPresent(source)) throw new IllegalArgumentException("Unknown source vertex " + source);
+    }
+
+    @Override
+    public void close() {
+        pool.shutdown();
+    }
+
+    public static void main(String[] args) throws Exception {
+        try (ShortestPathQueryEngine engine = new ShortestPathQueryEngine("/Users/sasmitmunagala/Desktop/Sasmit_Algos/GraphTheoryAlgos/src/main/java/com/Sasmit/dijkstraList")) {
+            int n = engine.getGraph().vertexCount();
+            int[] sources = new int[n - 1];
+            for (int i = 0; i < sources.length; i++) sources[i] = i + 1;
+
+            long start = System.nanoTime();
+            long[] checksum = new long[1];
+            engine.runBatch(sources, (source, dist, pred) -> {
+                synchronized (checksum) {
+                    checksum[0] += dist[7];
+                }
+            });
+            long elapsed = System.nanoTime() - start;
+
+            System.out.println(sources.length + " queries in " + elapsed / 1_000_000 + " ms, checksum " + checksum[0]);
+            System.out.println("Distance 1 -> 7: " + engine.submit(1).get().distance(7));
+        }
+    }
+}
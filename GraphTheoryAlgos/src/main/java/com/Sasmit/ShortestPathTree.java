@@ -0,0 +1,84 @@
+package com.Sasmit;
+
+import java.util.*;
+
+/**
+ * Single-source shortest-path result kept as two flat arrays: distance and predecessor per vertex.
+ * Memory is linear in the vertex count; a path is only materialized when pathTo() asks for it.
+ */
+public class ShortestPathTree {
+    public static final long UNREACHABLE = Long.MAX_VALUE;
+
+    private final int source;
+    private final long[] dist;
+    private final int[] pred;
+
+    public ShortestPathTree(int source, long[] dist, int[] pred) {
+        if (dist.length != pred.length) throw new IllegalArgumentException("dist and pred lengths differ");
+        this.source = source;
+        this.dist = dist;
+        this.pred = pred;
+    }
+
+    public int source() {
+        return source;
+    }
+
+    public int vertexCount() {
+        return dist.length;
+    }
+
+    public long distance(int target) {
+        return dist[target];
+    }
+
+    public boolean isReachable(int target) {
+        return dist[target] != UNREACHABLE;
+    }
+
+    /** Previous vertex on the shortest path to target, or -1 for the source / unreachable vertices. */
+    public int predecessor(int target) {
+        return pred[target];
+    }
+
+    // Backing arrays for code in this package that repairs or caches trees
+    long[] distances() {
+        return dist;
+    }
+
+    int[] predecessors() {
+        return pred;
+    }
+
+    /**
+     * Vertices from source (inclusive) to target (inclusive), or an empty array if unreachable.
+     */
+    public int[] pathVertices(int target) {
+        if (!isReachable(target)) return new int[0];
+        int length = 1;
+        for (int v = target; v != source; v = pred[v]) length++;
+
+        int[] path = new int[length];
+        for (int v = target, i = length - 1; i >= 0; v = pred[v], i--) {
+            path[i] = v;
+        }
+        return path;
+    }
+
+    /**
+     * Same shape as the PathInfo entries from DijkstraPathFinder.computeShortestPaths:
+     * the path lists the vertices after the source, ending at target.
+     * Distances that don't fit in an int (and unreachable targets) report Integer.MAX_VALUE.
+     */
+    public DijkstraPathFinder.PathInfo pathTo(int target) {
+        if (!isReachable(target)) {
+            return new DijkstraPathFinder.PathInfo(Integer.MAX_VALUE, new ArrayList<>());
+        }
+        int[] vertices = pathVertices(target);
+        List<Integer> path = new ArrayList<>(vertices.length - 1);
+        for (int i = 1; i < vertices.length; i++) path.add(vertices[i]);
+
+        int distance = dist[target] > Integer.MAX_VALUE ? Integer.MAX_VALUE : (int) dist[target];
+        return new DijkstraPathFinder.PathInfo(distance, path);
+    }
+}
@@ -0,0 +1,144 @@
+package com.Sasmit;
+
+import java.io.*;
+import java.util.*;
+
+/**
+ * Single-linkage dendrogram built with one Kruskal pass over the edges.
+ * Merge i (in cost order) joins dendrogram nodes left[i] and right[i] into node n + i; leaves are
+ * the graph nodes 0..n-1 (dense indices, see nodeId). After n - k merges exactly k clusters are left
+ * and the next merge is the cheapest edge between two of them, so:
+ * - maxSpacing(k) is one array lookup
+ * - clusterCount(maxCost) is a binary search over the merge costs
+ * - membership(k) is one O(n) walk down the dendrogram
+ * None of them look at the edges again, so sweeping k costs nothing extra.
+ */
+public class SingleLinkageDendrogram {
+    private final IntIdMap ids;
+    private final int[] mergeCost;
+    private final int[] left;
+    private final int[] right;
+
+    private SingleLinkageDendrogram(IntIdMap ids, int[] mergeCost, int[] left, int[] right) {
+        this.ids = ids;
+        this.mergeCost = mergeCost;
+        this.left = left;
+        this.right = right;
+    }
+
+    /** One Kruskal pass over graph (not modified). */
+    public static SingleLinkageDendrogram build(List<ClusteringAssignments.WeightedEdge> graph) {
+        int m = graph.size();
+        IntIdMap ids = new IntIdMap(Math.max(4, m));
+        int[] u = new int[m];
+        int[] v = new int[m];
+        long[] order = new long[m];
+        for (int i = 0; i < m; i++) {
+            ClusteringAssignments.WeightedEdge e = graph.get(i);
+            u[i] = ids.add(e.u);
+            v[i] = ids.add(e.v);
+            order[i] = ((long) e.cost << 32) | i; // sort by cost without boxing
+        }
+        Arrays.sort(order);
+
+        int n = ids.size();
+        ArrayUnionFind uf = new ArrayUnionFind(n);
+        int[] top = new int[n]; // union-find root -> dendrogram node of its cluster
+        for (int i = 0; i < n; i++) top[i] = i;
+
+        int merges = 0;
+        int[] mergeCost = new int[Math.max(0, n - 1)];
+        int[] left = new int[mergeCost.length];
+        int[] right = new int[mergeCost.length];
+        for (int r = 0; r < m && merges < n - 1; r++) {
+            int e = (int) order[r];
+            int ra = uf.find(u[e]);
+            int rb = uf.find(v[e]);
+            if (ra == rb) continue;
+
+            left[merges] = top[ra];
+            right[merges] = top[rb];
+            mergeCost[merges] = (int) (order[r] >> 32);
+            uf.union(ra, rb);
+            top[uf.find(ra)] = n + merges;
+            merges++;
+        }
+
+        if (merges < mergeCost.length) {
+            // disconnected graph: fewer merges than n - 1
+            mergeCost = Arrays.copyOf(mergeCost, merges);
+            left = Arrays.copyOf(left, merges);
+            right = Arrays.copyOf(right, merges);
+        }
+        return new SingleLinkageDendrogram(ids, mergeCost, left, right);
+    }
+
+    public int nodeCount() {
+        return ids.size();
+    }
+
+    public int mergeCount() {
+        return mergeCost.length;
+    }
+
+    /** Original id of the node with dense index index (the index used by membership). */
+    public int nodeId(int index) {
+        return ids.idOf(index);
+    }
+
+    /**
+     * Max spacing of a k-clustering, same as ClusteringAssignments.kClusteringWeighted(graph, k):
+     * -1 if no edge is left between the k clusters.
+     */
+    public int maxSpacing(int k) {
+        if (k < 1) throw new IllegalArgumentException("k must be >= 1");
+        int next = nodeCount() - k;
+        return next >= 0 && next < mergeCost.length ? mergeCost[next] : -1;
+    }
+
+    /** Number of clusters left once every edge of cost <= maxCost has been used. */
+    public int clusterCount(int maxCost) {
+        // first merge costing more than maxCost
+        int lo = 0, hi = mergeCost.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (mergeCost[mid] <= maxCost) lo = mid + 1;
+            else hi = mid;
+        }
+        return nodeCount() - lo;
+    }
+
+    /**
+     * Cluster label (0..clusters-1) of every node by dense index, for a k-clustering.
+     * If the graph has more than k connected components, those components are returned.
+     */
+    public int[] membership(int k) {
+        if (k < 1) throw new IllegalArgumentException("k must be >= 1");
+        int n = nodeCount();
+        int applied = Math.max(0, Math.min(n - k, mergeCost.length));
+
+        // parents always come after their children, so walking merges backwards labels top-down
+        int[] label = new int[n + applied];
+        Arrays.fill(label, -1);
+        int clusters = 0;
+        for (int i = applied - 1; i >= 0; i--) {
+            int node = n + i;
+            if (label[node] < 0) label[node] = clusters++;
+            label[left[i]] = label[node];
+            label[right[i]] = label[node];
+        }
+        for (int v = 0; v < n; v++) {
+            if (label[v] < 0) label[v] = clusters++;
+        }
+        return Arrays.copyOf(label, n);
+    }
+
+    public static void main(String[] args) throws IOException {
+        List<ClusteringAssignments.WeightedEdge> graph = ClusteringAssignments.readCluster("/Users/sasmitmunagala/Desktop/Sasmit_Algos/GraphTheoryAlgos/src/main/java/com/Sasmit/cluster.txt");
+        SingleLinkageDendrogram dendrogram = build(graph);
+
+        for (int k = 2; k <= Math.min(500, dendrogram.nodeCount()); k++) {
+            System.out.println("Max spacing of " + k + "-clustering = " + dendrogram.maxSpacing(k));
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.Sasmit;
+
+import java.util.*;
+
+/**
+ * Deterministic Stoer-Wagner global min cut on a dense int weight matrix
+ * (parallel edges add up, so a multigraph becomes a weighted simple graph).
+ * O(n^3) time and O(n^2) memory, so it is meant for graphs up to a few thousand vertices.
+ */
+public class StoerWagner {
+    private final int n;
+    private final int[][] weight;
+
+    /** n vertices numbered 0..n-1, undirected edges u[i] - v[i] (parallel edges allowed). */
+    public StoerWagner(int n, int[] u, int[] v) {
+        this.n = n;
+        this.weight = new int[n][n];
+        for (int e = 0; e < u.length; e++) {
+            if (u[e] == v[e]) continue;
+            weight[u[e]][v[e]]++;
+            weight[v[e]][u[e]]++;
+        }
+    }
+
+    public int minCut() {
+        if (n < 2) return 0;
+
+        // w is consumed by the merges, so work on a copy
+        int[][] w = new int[n][];
+        for (int i = 0; i < n; i++) w[i] = weight[i].clone();
+
+        int[] vertices = new int[n];   // live super-vertices are vertices[0 .. live)
+        for (int i = 0; i < n; i++) vertices[i] = i;
+        int live = n;
+
+        long[] connectivity = new long[n];
+        boolean[] added = new boolean[n];
+        long best = Long.MAX_VALUE;
+
+        while (live > 1) {
+            // Maximum adjacency ordering: repeatedly add the most tightly connected vertex
+            Arrays.fill(added, false);
+            Arrays.fill(connectivity, 0);
+            int prev = -1;
+            int last = -1;
+            for (int step = 0; step < live; step++) {
+                int pick = -1;
+                for (int i = 0; i < live; i++) {
+                    int x = vertices[i];
+                    if (!added[x] && (pick < 0 || connectivity[x] > connectivity[pick])) pick = x;
+                }
+                added[pick] = true;
+                prev = last;
+                last = pick;
+
+                if (step == live - 1) {
+                    // cut of the phase: last vertex against everything else
+                    best = Math.min(best, connectivity[pick]);
+                } else {
+                    for (int i = 0; i < live; i++) {
+                        int x = vertices[i];
+                        if (!added[x]) connectivity[x] += w[pick][x];
+                    }
+                }
+            }
+
+            // Merge the last vertex into the one added before it
+            for (int i = 0; i < live; i++) {
+                int x = vertices[i];
+                w[prev][x] += w[last][x];
+                w[x][prev] = w[prev][x];
+            }
+            w[prev][prev] = 0;
+            for (int i = 0; i < live; i++) {
+                if (vertices[i] == last) {
+                    vertices[i] = vertices[--live];
+                    break;
+                }
+            }
+        }
+        return (int) best;
+    }
+}
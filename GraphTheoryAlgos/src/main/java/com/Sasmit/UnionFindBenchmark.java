@@ -0,0 +1,86 @@
+package com.Sasmit;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Stress check and benchmark for ConcurrentUnionFind against the sequential ArrayUnionFind.
+ * The same random union sequence is applied by 1..N threads hammering one shared instance;
+ * the resulting partition must be identical to the sequential one.
+ * Usage: UnionFindBenchmark [elements] [unions]
+ */
+public class UnionFindBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 5_000_000;
+        int m = args.length > 1 ? Integer.parseInt(args[1]) : 4_000_000;
+        int maxThreads = Math.max(4, Runtime.getRuntime().availableProcessors());
+
+        Random rand = new Random(21);
+        int[] a = new int[m];
+        int[] b = new int[m];
+        for (int i = 0; i < m; i++) {
+            a[i] = rand.nextInt(n);
+            b[i] = rand.nextInt(n);
+        }
+        System.out.println(n + " elements, " + m + " unions");
+
+        ArrayUnionFind expected = null;
+        double sequentialMs = 0;
+        for (int round = 0; round < 2; round++) { // first round is warm-up
+            long start = System.nanoTime();
+            expected = new ArrayUnionFind(n);
+            for (int i = 0; i < m; i++) expected.union(a[i], b[i]);
+            sequentialMs = (System.nanoTime() - start) / 1e6;
+        }
+        System.out.printf("ArrayUnionFind (sequential): %.1f ms, %d sets%n", sequentialMs, expected.numClusters());
+
+        // more threads than cores is deliberate: it forces preemption in the middle of a union
+        for (int threads = 1; threads <= maxThreads; threads *= 2) {
+            ConcurrentUnionFind uf = null;
+            double ms = 0;
+            for (int round = 0; round < 2; round++) {
+                long start = System.nanoTime();
+                uf = runConcurrent(n, a, b, threads);
+                ms = (System.nanoTime() - start) / 1e6;
+            }
+            String check = samePartition(expected, uf) ? "ok" : "MISMATCH";
+            System.out.printf("ConcurrentUnionFind threads=%-3d %.1f ms  (x%.2f vs sequential) %d sets %s%n",
+                    threads, ms, sequentialMs / ms, uf.numClusters(), check);
+        }
+    }
+
+    // Every thread takes an interleaved slice of the unions, so threads collide on the same sets
+    private static ConcurrentUnionFind runConcurrent(int n, int[] a, int[] b, int threads) throws Exception {
+        ConcurrentUnionFind uf = new ConcurrentUnionFind(n);
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> workers = new ArrayList<>(threads);
+            for (int t = 0; t < threads; t++) {
+                int first = t;
+                workers.add(pool.submit(() -> {
+                    for (int i = first; i < a.length; i += threads) uf.union(a[i], b[i]);
+                }));
+            }
+            for (Future<?> worker : workers) worker.get();
+        } finally {
+            pool.shutdownNow();
+        }
+        return uf;
+    }
+
+    // Same sets iff the root maps are a bijection between the two structures
+    private static boolean samePartition(ArrayUnionFind expected, ConcurrentUnionFind actual) {
+        if (expected.numClusters() != actual.numClusters()) return false;
+        int n = expected.elementCount();
+        int[] rootMap = new int[n];
+        Arrays.fill(rootMap, -1);
+        for (int v = 0; v < n; v++) {
+            int re = expected.find(v);
+            int ra = actual.find(v);
+            if (rootMap[re] == -1) rootMap[re] = ra;
+            else if (rootMap[re] != ra) return false;
+        }
+        return true;
+    }
+}